@@ -0,0 +1,44 @@
+package guideme.libs.mdast;
+
+import guideme.libs.micromark.Documents;
+import guideme.libs.micromark.ParsedEvents;
+import guideme.libs.micromark.Pathological;
+import guideme.libs.micromark.Tokenizer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compiling already parsed events to mdast.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MdastCompilerBenchmark {
+    @Benchmark
+    public void documents(ParsedEvents.OfDocuments parsed, Documents documents,
+            Blackhole blackhole) {
+        compile(parsed.events, documents.documents.options(), blackhole);
+    }
+
+    @Benchmark
+    public void pathological(ParsedEvents.OfPathological parsed, Pathological pathological,
+            Blackhole blackhole) {
+        compile(parsed.events, pathological.documents.options(), blackhole);
+    }
+
+    private static void compile(List<List<Tokenizer.Event>> documents, MdastOptions options, Blackhole blackhole) {
+        for (var events : documents) {
+            blackhole.consume(new MdastCompiler(options).compile(events));
+        }
+    }
+}
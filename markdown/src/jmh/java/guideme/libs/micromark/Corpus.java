@@ -0,0 +1,123 @@
+package guideme.libs.micromark;
+
+import com.google.gson.JsonParser;
+import guideme.libs.mdast.MdastOptions;
+import guideme.libs.mdast.YamlFrontmatterExtension;
+import guideme.libs.mdast.gfm.GfmTableMdastExtension;
+import guideme.libs.mdast.gfmstrikethrough.GfmStrikethroughMdastExtension;
+import guideme.libs.mdast.mdx.MdxMdastExtension;
+import guideme.libs.mdx.MdxSyntax;
+import guideme.libs.micromark.extensions.YamlFrontmatterSyntax;
+import guideme.libs.micromark.extensions.gfm.GfmTableSyntax;
+import guideme.libs.micromark.extensions.gfmstrikethrough.GfmStrikethroughSyntax;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * The documents the benchmarks are run on, together with the options to parse them with.
+ */
+public final class Corpus {
+    private final List<String> documents;
+    private final MdastOptions options;
+
+    private Corpus(List<String> documents, MdastOptions options) {
+        this.documents = List.copyOf(documents);
+        this.options = options;
+    }
+
+    public List<String> documents() {
+        return documents;
+    }
+
+    public MdastOptions options() {
+        return options;
+    }
+
+    /**
+     * Loads a corpus of real documents.
+     *
+     * @param name <code>commonmark</code> for the examples of the CommonMark spec, or <code>guides</code> for the
+     *             bundled guide pages.
+     */
+    public static Corpus load(String name) {
+        return switch (name) {
+            case "commonmark" -> new Corpus(readSpecExamples(), new MdastOptions());
+            case "guides" -> new Corpus(readGuidePages(), guideOptions());
+            default -> throw new IllegalArgumentException("Unknown corpus: " + name);
+        };
+    }
+
+    /**
+     * Generates a single document that used to take more than linear time to parse.
+     *
+     * @param kind The shape of the document.
+     * @param size How often the repeated part of the document is repeated.
+     */
+    public static Corpus pathological(String kind, int size) {
+        var document = switch (kind) {
+            case "plain" -> "xxxx".repeat(size);
+            case "strong" -> "a**b".repeat(size);
+            case "unclosedEmphasis" -> "a**b" + "c*".repeat(size);
+            case "unclosedLinks" -> "[a](b".repeat(size);
+            case "unclosedLinkDestinations" -> "[a](<b".repeat(size);
+            case "nestedLabels" -> "[".repeat(size) + "a" + "]".repeat(size);
+            case "definitions" -> "[a]: u\n".repeat(size);
+            case "blockQuotes" -> ">".repeat(size) + " a\n";
+            case "lists" -> "- a\n".repeat(size);
+            case "tableRows" -> "| a | b |\n| - | - |\n" + "| c | d |\n".repeat(size);
+            default -> throw new IllegalArgumentException("Unknown pathological document: " + kind);
+        };
+        return new Corpus(List.of(document), guideOptions());
+    }
+
+    /**
+     * The extensions GuideME parses its pages with.
+     */
+    private static MdastOptions guideOptions() {
+        return new MdastOptions()
+                .withSyntaxExtension(MdxSyntax.INSTANCE)
+                .withSyntaxExtension(YamlFrontmatterSyntax.INSTANCE)
+                .withSyntaxExtension(GfmTableSyntax.INSTANCE)
+                .withSyntaxExtension(GfmStrikethroughSyntax.INSTANCE)
+                .withMdastExtension(MdxMdastExtension.INSTANCE)
+                .withMdastExtension(YamlFrontmatterExtension.INSTANCE)
+                .withMdastExtension(GfmTableMdastExtension.INSTANCE)
+                .withMdastExtension(GfmStrikethroughMdastExtension.INSTANCE);
+    }
+
+    private static List<String> readSpecExamples() {
+        var examples = new ArrayList<String>();
+        var spec = JsonParser.parseString(readResource("/commonmark.json"));
+        for (var example : spec.getAsJsonArray()) {
+            examples.add(example.getAsJsonObject().get("markdown").getAsString());
+        }
+        return examples;
+    }
+
+    private static List<String> readGuidePages() {
+        var pages = new ArrayList<String>();
+        for (var page : readResource("/corpus/guides/pages.txt").split("\n")) {
+            if (!page.isBlank()) {
+                pages.add(readResource("/corpus/guides/" + page.strip()));
+            }
+        }
+        return pages;
+    }
+
+    private static String readResource(String path) {
+        try (InputStream in = Objects.requireNonNull(Corpus.class.getResourceAsStream(path), path);
+                var reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            return reader.lines().collect(Collectors.joining("\n", "", "\n"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
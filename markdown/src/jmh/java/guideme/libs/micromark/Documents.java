@@ -0,0 +1,22 @@
+package guideme.libs.micromark;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The corpora of real documents. One benchmark operation handles all documents of a corpus.
+ */
+@State(Scope.Benchmark)
+public class Documents {
+    @Param({ "commonmark", "guides" })
+    public String corpus;
+
+    public Corpus documents;
+
+    @Setup
+    public void load() {
+        documents = Corpus.load(corpus);
+    }
+}
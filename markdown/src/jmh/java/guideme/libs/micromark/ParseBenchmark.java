@@ -0,0 +1,37 @@
+package guideme.libs.micromark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Tokenizing documents into the events the compilers consume.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParseBenchmark {
+    @Benchmark
+    public void documents(Documents documents, Blackhole blackhole) {
+        parse(documents.documents, blackhole);
+    }
+
+    @Benchmark
+    public void pathological(Pathological pathological, Blackhole blackhole) {
+        parse(pathological.documents, blackhole);
+    }
+
+    private static void parse(Corpus corpus, Blackhole blackhole) {
+        for (var document : corpus.documents()) {
+            blackhole.consume(Micromark.parseAndPostprocess(document, corpus.options()));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package guideme.libs.micromark;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The events of the documents of a corpus, for benchmarking the compilers on their own. The compilers modify the
+ * events, so they are parsed again before every invocation.
+ */
+public final class ParsedEvents {
+    private ParsedEvents() {
+    }
+
+    @State(Scope.Thread)
+    public static class OfDocuments {
+        public List<List<Tokenizer.Event>> events;
+
+        @Setup(Level.Invocation)
+        public void parse(Documents documents) {
+            events = ParsedEvents.parse(documents.documents);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class OfPathological {
+        public List<List<Tokenizer.Event>> events;
+
+        @Setup(Level.Invocation)
+        public void parse(Pathological pathological) {
+            events = ParsedEvents.parse(pathological.documents);
+        }
+    }
+
+    private static List<List<Tokenizer.Event>> parse(Corpus corpus) {
+        var result = new ArrayList<List<Tokenizer.Event>>(corpus.documents().size());
+        for (var document : corpus.documents()) {
+            result.add(Micromark.parseAndPostprocess(document, corpus.options()));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,27 @@
+package guideme.libs.micromark;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Generated documents that stress a single construct, at several sizes. Comparing the sizes shows whether the time
+ * grows faster than the input.
+ */
+@State(Scope.Benchmark)
+public class Pathological {
+    @Param({ "plain", "strong", "unclosedEmphasis", "unclosedLinks", "unclosedLinkDestinations", "nestedLabels",
+            "definitions", "blockQuotes", "lists", "tableRows" })
+    public String kind;
+
+    @Param({ "1000", "10000" })
+    public int size;
+
+    public Corpus documents;
+
+    @Setup
+    public void generate() {
+        documents = Corpus.pathological(kind, size);
+    }
+}
@@ -0,0 +1,42 @@
+package guideme.libs.micromark.html;
+
+import guideme.libs.micromark.ParsedEvents;
+import guideme.libs.micromark.Tokenizer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compiling already parsed events to HTML.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HtmlCompilerBenchmark {
+    @Benchmark
+    public void documents(ParsedEvents.OfDocuments parsed, Blackhole blackhole) {
+        compile(parsed.events, blackhole);
+    }
+
+    @Benchmark
+    public void pathological(ParsedEvents.OfPathological parsed, Blackhole blackhole) {
+        compile(parsed.events, blackhole);
+    }
+
+    private static void compile(List<List<Tokenizer.Event>> documents, Blackhole blackhole) {
+        var options = new CompileOptions();
+        options.setAllowDangerousHtml(true);
+        for (var events : documents) {
+            blackhole.consume(new HtmlCompiler(options).compile(events));
+        }
+    }
+}
@@ -0,0 +1,406 @@
+package guideme.libs.mdast;
+
+import guideme.libs.mdast.mdx.model.MdxJsxAttributeNode;
+import guideme.libs.mdast.mdx.model.MdxJsxElementFields;
+import guideme.libs.mdast.model.MdAstDefinition;
+import guideme.libs.mdast.model.MdAstList;
+import guideme.libs.mdast.model.MdAstNode;
+import guideme.libs.mdast.model.MdAstParent;
+import guideme.libs.mdast.model.MdAstPosition;
+import guideme.libs.mdast.model.MdAstRoot;
+import guideme.libs.micromark.NormalizeIdentifier;
+import guideme.libs.micromark.ParseException;
+import guideme.libs.micromark.Point;
+import guideme.libs.unist.UnistPoint;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Re-parses only the top-level blocks of a document that an edit touched, see {@link MdAst#reparse}.
+ * <p>
+ * The re-parsed part of the source (the slice) starts and ends at line starts in the text that both versions have in
+ * common. Parsing it on its own gives the same result as parsing the whole document if the parser is in its initial
+ * state at the start of the slice, and if nothing in the slice changes how the text after it is parsed:
+ * <ul>
+ * <li>The slice starts after a blank line, so nothing before it can continue into it. Lists can continue after blank
+ * lines, so the block before the slice must not be one.</li>
+ * <li>The slice ends with an unchanged block (the sentinel) followed by a blank line. If the sentinel is parsed into a
+ * node of the same type and extent as before, the edit did not run into it, for example by opening a fenced code block
+ * or a list item that swallows it.</li>
+ * <li>Definitions outside the slice are passed to the parser, and the slice must define the same identifiers as
+ * before, since they decide whether text elsewhere is a reference.</li>
+ * </ul>
+ * Whenever one of these can't be established, the whole document is parsed instead.
+ * <p>
+ * The previous tree is never modified, since its owner may still be using it. Blocks before the slice are shared with
+ * the result as they are, while blocks after it are copied with new positions.
+ */
+final class IncrementalParser {
+    private final MdAstRoot previous;
+    private final String previousMarkdown;
+    private final String markdown;
+    private final MdastOptions options;
+    private final List<MdAstNode> children = new ArrayList<>();
+
+    private IncrementalParser(MdAstRoot previous, String previousMarkdown, String markdown, MdastOptions options) {
+        this.previous = previous;
+        this.previousMarkdown = previousMarkdown;
+        this.markdown = markdown;
+        this.options = options;
+        for (var child : previous.children()) {
+            children.add((MdAstNode) child);
+        }
+    }
+
+    static MdAstRoot reparse(MdAstRoot previous, String previousMarkdown, String markdown, MdastOptions options) {
+        if (previousMarkdown.equals(markdown)) {
+            return previous;
+        }
+
+        var result = new IncrementalParser(previous, previousMarkdown, markdown, options).reparse();
+        return result != null ? result : MdAst.fromMarkdown(markdown, options);
+    }
+
+    /**
+     * @return Null if the document has to be parsed as a whole.
+     */
+    @Nullable
+    private MdAstRoot reparse() {
+        if (!options.isPositions() || !hasPosition(previous) || children.isEmpty()) {
+            return null;
+        }
+        for (var extension : options.mdastExtensions) {
+            if (!extension.transforms.isEmpty()) {
+                return null; // They may look at the whole tree
+            }
+        }
+        for (var child : children) {
+            if (!hasPosition(child)) {
+                return null;
+            }
+        }
+        if (hasUnclosedFrontmatter(previousMarkdown, previous)) {
+            return null;
+        }
+
+        // The changed range is the same in both versions up to here
+        var commonPrefix = 0;
+        var maxCommon = Math.min(previousMarkdown.length(), markdown.length());
+        while (commonPrefix < maxCommon && previousMarkdown.charAt(commonPrefix) == markdown.charAt(commonPrefix)) {
+            commonPrefix++;
+        }
+        // And from here on
+        var commonSuffix = 0;
+        while (commonSuffix < maxCommon - commonPrefix
+                && previousMarkdown.charAt(previousMarkdown.length() - 1 - commonSuffix) == markdown
+                        .charAt(markdown.length() - 1 - commonSuffix)) {
+            commonSuffix++;
+        }
+        var changeEnd = previousMarkdown.length() - commonSuffix;
+        var delta = markdown.length() - previousMarkdown.length();
+
+        // The first block touched by the change, and the one before it in case the change merges them
+        var first = 0;
+        while (first < children.size() - 1 && endOffset(first) < commonPrefix) {
+            first++;
+        }
+        first = Math.max(0, first - 1);
+        while (first > 0 && (lineStart(first) > commonPrefix
+                || !isBlankLineBefore(lineStart(first))
+                || children.get(first - 1) instanceof MdAstList)) {
+            first--;
+        }
+        var sliceStart = first == 0 ? 0 : lineStart(first);
+
+        // The first block that starts on a line after the change is the sentinel
+        var sentinel = first;
+        while (sentinel < children.size() && lineStart(sentinel) <= changeEnd) {
+            sentinel++;
+        }
+        while (sentinel < children.size() - 1 && !isBlankLineBefore(lineStart(sentinel + 1))) {
+            sentinel++;
+        }
+        var previousSliceEnd = sentinel < children.size() - 1 ? lineStart(sentinel + 1) : previousMarkdown.length();
+        if (previousSliceEnd < changeEnd) {
+            return null;
+        }
+        var sliceEnd = previousSliceEnd + delta;
+
+        // Definitions in the rest of the document decide whether text in the slice is a reference
+        var defined = new ArrayList<String>();
+        var previousSliceDefinitions = new HashSet<String>();
+        for (var i = 0; i < children.size(); i++) {
+            var inSlice = i >= first && i <= sentinel;
+            collectDefinitions(children.get(i), inSlice ? previousSliceDefinitions : null, inSlice ? null : defined);
+        }
+
+        var slice = markdown.substring(sliceStart, sliceEnd);
+        if (sliceStart > 0 && (slice.startsWith("\uFEFF") || slice.startsWith("---"))) {
+            return null; // Would be taken for a byte order mark or the start of frontmatter
+        }
+        MdAstRoot sliceRoot;
+        try {
+            var events = options.getCompiledSyntax().parseAndPostprocess(slice, defined);
+            sliceRoot = new MdastCompiler(options).compile(events);
+        } catch (ParseException e) {
+            return null; // Report it with the positions of the whole document
+        }
+
+        var sliceDefinitions = new HashSet<String>();
+        collectDefinitions(sliceRoot, sliceDefinitions, null);
+        if (!sliceDefinitions.equals(previousSliceDefinitions)) {
+            return null;
+        }
+
+        var sliceChildren = new ArrayList<MdAstNode>();
+        for (var child : sliceRoot.children()) {
+            sliceChildren.add((MdAstNode) child);
+        }
+        if (sliceStart > 0 && !sliceChildren.isEmpty() && sliceChildren.get(0) instanceof MdAstYamlFrontmatter) {
+            return null; // Frontmatter is only allowed at the start of the document
+        }
+
+        var sliceLineShift = first == 0 ? 0 : children.get(first).position.start.line() - 1;
+        for (var child : sliceChildren) {
+            shift(child, sliceLineShift, sliceStart);
+        }
+
+        if (sentinel < children.size()) {
+            var before = children.get(sentinel);
+            if (sliceChildren.isEmpty()) {
+                return null;
+            }
+            var after = sliceChildren.get(sliceChildren.size() - 1);
+            if (!after.type().equals(before.type())
+                    || after.position.start.offset() != before.position.start.offset() + delta
+                    || after.position.end.offset() != before.position.end.offset() + delta) {
+                return null;
+            }
+        }
+
+        var result = new MdAstRoot();
+        for (var i = 0; i < first; i++) {
+            result.addChild(children.get(i));
+        }
+        for (var child : sliceChildren) {
+            result.addChild(child);
+        }
+
+        if (sentinel + 1 < children.size()) {
+            var lineDelta = sliceLineShift + countLines(slice) + 1 - children.get(sentinel + 1).position.start.line();
+            for (var i = sentinel + 1; i < children.size(); i++) {
+                var child = copy(children.get(i), lineDelta, delta);
+                if (child == null) {
+                    return null;
+                }
+                result.addChild(child);
+            }
+            result.position = new MdAstPosition(
+                    previous.position.start,
+                    shift(previous.position.end, lineDelta, delta));
+        } else {
+            result.position = new MdAstPosition(
+                    previous.position.start,
+                    shift(sliceRoot.position.end, sliceLineShift, sliceStart));
+        }
+
+        if (hasUnclosedFrontmatter(markdown, result)) {
+            return null;
+        }
+
+        return result;
+    }
+
+    private static boolean hasPosition(MdAstNode node) {
+        return node.position != null && node.position.start != null && node.position.end != null;
+    }
+
+    /**
+     * An attempt at frontmatter that is never closed changes how the rest of the document is parsed.
+     */
+    private static boolean hasUnclosedFrontmatter(String markdown, MdAstRoot root) {
+        return markdown.startsWith("---")
+                && (root.children().isEmpty() || !(root.children().get(0) instanceof MdAstYamlFrontmatter));
+    }
+
+    private int endOffset(int child) {
+        return children.get(child).position.end.offset();
+    }
+
+    /**
+     * The offset of the start of the line that the given child starts on.
+     */
+    private int lineStart(int child) {
+        var offset = children.get(child).position.start.offset();
+        while (offset > 0 && !isLineEnding(previousMarkdown.charAt(offset - 1))) {
+            offset--;
+        }
+        return offset;
+    }
+
+    /**
+     * Whether the line before the line starting at the given offset only contains whitespace.
+     */
+    private boolean isBlankLineBefore(int lineStart) {
+        if (lineStart == 0) {
+            return false;
+        }
+        var offset = lineStart - 1;
+        // Skip the line ending of the previous line
+        if (offset > 0 && previousMarkdown.charAt(offset) == '\n' && previousMarkdown.charAt(offset - 1) == '\r') {
+            offset--;
+        }
+        while (offset > 0) {
+            var ch = previousMarkdown.charAt(offset - 1);
+            if (isLineEnding(ch)) {
+                return true;
+            } else if (ch != ' ' && ch != '\t') {
+                return false;
+            }
+            offset--;
+        }
+        return true;
+    }
+
+    private static boolean isLineEnding(char ch) {
+        return ch == '\n' || ch == '\r';
+    }
+
+    private static int countLines(String text) {
+        var lines = 0;
+        for (var i = 0; i < text.length(); i++) {
+            var ch = text.charAt(i);
+            if (ch == '\n' || ch == '\r' && (i + 1 >= text.length() || text.charAt(i + 1) != '\n')) {
+                lines++;
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * @param identifiers The mdast identifiers of the definitions are added here, if not null.
+     * @param defined     The identifiers as the parser normalizes them are added here, if not null.
+     */
+    private static void collectDefinitions(MdAstNode node, @Nullable Set<String> identifiers,
+            @Nullable List<String> defined) {
+        if (node instanceof MdAstDefinition definition) {
+            if (identifiers != null) {
+                identifiers.add(definition.identifier);
+            }
+            if (defined != null) {
+                defined.add(NormalizeIdentifier.normalizeIdentifier(definition.identifier));
+            }
+        } else if (node instanceof MdAstParent<?> parent) {
+            for (var child : parent.children()) {
+                collectDefinitions((MdAstNode) child, identifiers, defined);
+            }
+        }
+    }
+
+    /**
+     * Moves the positions of a node and everything in it. Only lines are moved, columns stay the same.
+     */
+    private static void shift(MdAstNode node, int lines, int offset) {
+        if (hasPosition(node)) {
+            node.position = new MdAstPosition(
+                    shift(node.position.start, lines, offset),
+                    shift(node.position.end, lines, offset));
+        }
+        if (node instanceof MdxJsxElementFields element) {
+            for (var attribute : element.attributes()) {
+                if (attribute instanceof MdAstNode attributeNode) {
+                    shift(attributeNode, lines, offset);
+                }
+            }
+        }
+        if (node instanceof MdAstParent<?> parent) {
+            for (var child : parent.children()) {
+                shift((MdAstNode) child, lines, offset);
+            }
+        }
+    }
+
+    /**
+     * Copies a node of the previous tree with moved positions, or reuses it if they don't move.
+     *
+     * @return Null if the node or something in it is of a type this library doesn't know how to copy.
+     */
+    @Nullable
+    private static MdAstNode copy(MdAstNode node, int lines, int offset) {
+        if (lines == 0 && offset == 0) {
+            return node;
+        }
+
+        var kind = MdAstKind.forType(node.type());
+        if (kind == null) {
+            return null;
+        }
+        var fields = new FieldBuffer();
+        MdAstCodec.writeFields(kind, node, fields);
+        var result = MdAstCodec.readFields(kind, fields);
+        result.data = node.data;
+        if (hasPosition(node)) {
+            result.position = new MdAstPosition(
+                    shift(node.position.start, lines, offset),
+                    shift(node.position.end, lines, offset));
+        }
+
+        if (node instanceof MdxJsxElementFields element) {
+            var attributes = ((MdxJsxElementFields) result).attributes();
+            for (var attribute : element.attributes()) {
+                var attributeCopy = copy((MdAstNode) attribute, lines, offset);
+                if (attributeCopy == null) {
+                    return null;
+                }
+                attributes.add((MdxJsxAttributeNode) attributeCopy);
+            }
+        }
+        if (node instanceof MdAstParent<?> parent) {
+            for (var child : parent.children()) {
+                var childCopy = copy((MdAstNode) child, lines, offset);
+                if (childCopy == null) {
+                    return null;
+                }
+                ((MdAstParent<?>) result).addChild(childCopy);
+            }
+        }
+        return result;
+    }
+
+    private static UnistPoint shift(UnistPoint point, int lines, int offset) {
+        return new Point(point.line() + lines, point.column(), point.offset() + offset, -1);
+    }
+
+    /**
+     * Passes the fields of a node from {@link MdAstCodec#writeFields} to {@link MdAstCodec#readFields}.
+     */
+    private static final class FieldBuffer
+            implements MdAstCodec.FieldWriter<RuntimeException>, MdAstCodec.FieldReader<RuntimeException> {
+        private final List<Object> values = new ArrayList<>();
+        private int readIndex;
+
+        @Override
+        public void writeInt(int value) {
+            values.add(value);
+        }
+
+        @Override
+        public void writeString(@Nullable String value) {
+            values.add(value);
+        }
+
+        @Override
+        public int readInt() {
+            return (Integer) values.get(readIndex++);
+        }
+
+        @Override
+        @Nullable
+        public String readString() {
+            return (String) values.get(readIndex++);
+        }
+    }
+}
@@ -11,4 +11,20 @@ public final class MdAst {
         var evts = Micromark.parseAndPostprocess(markdown, options);
         return new MdastCompiler(options).compile(evts);
     }
+
+    /**
+     * Parses an edited version of a document, only re-parsing the top-level blocks around the edit. The result is the
+     * same as parsing the new version from scratch. If the edit can affect more than the blocks around it, such as when
+     * it adds a definition or opens a fenced code block, the whole document is parsed.
+     * <p>
+     * The previous tree is left as it was. Nodes before the edit are shared between both trees, so neither should be
+     * modified afterward, while nodes after the edit are copied with new positions.
+     *
+     * @param previous         The tree of the previous version, parsed with positions and the same options.
+     * @param previousMarkdown The source of the previous version.
+     */
+    public static MdAstRoot reparse(MdAstRoot previous, String previousMarkdown, String markdown,
+            MdastOptions options) {
+        return IncrementalParser.reparse(previous, previousMarkdown, markdown, options);
+    }
 }
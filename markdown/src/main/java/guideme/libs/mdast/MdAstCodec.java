@@ -0,0 +1,292 @@
+package guideme.libs.mdast;
+
+import guideme.libs.mdast.gfm.model.GfmTable;
+import guideme.libs.mdast.gfm.model.GfmTableCell;
+import guideme.libs.mdast.gfm.model.GfmTableRow;
+import guideme.libs.mdast.gfmstrikethrough.MdAstDelete;
+import guideme.libs.mdast.mdx.model.MdxJsxAttribute;
+import guideme.libs.mdast.mdx.model.MdxJsxElementFields;
+import guideme.libs.mdast.mdx.model.MdxJsxExpressionAttribute;
+import guideme.libs.mdast.mdx.model.MdxJsxFlowElement;
+import guideme.libs.mdast.mdx.model.MdxJsxTextElement;
+import guideme.libs.mdast.model.MdAstBlockquote;
+import guideme.libs.mdast.model.MdAstBreak;
+import guideme.libs.mdast.model.MdAstCode;
+import guideme.libs.mdast.model.MdAstDefinition;
+import guideme.libs.mdast.model.MdAstEmphasis;
+import guideme.libs.mdast.model.MdAstHTML;
+import guideme.libs.mdast.model.MdAstHeading;
+import guideme.libs.mdast.model.MdAstImage;
+import guideme.libs.mdast.model.MdAstImageReference;
+import guideme.libs.mdast.model.MdAstInlineCode;
+import guideme.libs.mdast.model.MdAstLink;
+import guideme.libs.mdast.model.MdAstLinkReference;
+import guideme.libs.mdast.model.MdAstList;
+import guideme.libs.mdast.model.MdAstListItem;
+import guideme.libs.mdast.model.MdAstLiteral;
+import guideme.libs.mdast.model.MdAstNode;
+import guideme.libs.mdast.model.MdAstParagraph;
+import guideme.libs.mdast.model.MdAstReferenceType;
+import guideme.libs.mdast.model.MdAstRoot;
+import guideme.libs.mdast.model.MdAstStrong;
+import guideme.libs.mdast.model.MdAstText;
+import guideme.libs.mdast.model.MdAstThematicBreak;
+import guideme.libs.micromark.extensions.gfm.Align;
+import java.util.ArrayList;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Converts the fields of a node to and from a sequence of ints and strings, for the compact forms of mdast trees. The
+ * position, children and attributes of nodes are left to the caller.
+ * <p>
+ * The fields of each kind, in order (enums are stored as their ordinal + 1, with 0 for null):
+ * <ul>
+ * <li>heading: depth</li>
+ * <li>list: ordered (0 or 1), start, spread (0 or 1)</li>
+ * <li>listItem: spread (0 or 1)</li>
+ * <li>html, text, inlineCode, yamlFrontmatter, mdxJsxExpressionAttribute: value</li>
+ * <li>code: lang, meta, value</li>
+ * <li>definition: identifier, label, url, title</li>
+ * <li>link: url, title</li>
+ * <li>image: alt, url, title</li>
+ * <li>linkReference: identifier, label, referenceType</li>
+ * <li>imageReference: alt, identifier, label, referenceType</li>
+ * <li>table: number of alignments + 1 (0 if null), each alignment's ordinal</li>
+ * <li>mdxJsxFlowElement, mdxJsxTextElement: name</li>
+ * <li>mdxJsxAttribute: name, value kind ({@link #NO_VALUE}, {@link #STRING_VALUE} or {@link #EXPRESSION_VALUE}), the
+ * value unless the kind is {@link #NO_VALUE}</li>
+ * </ul>
+ * {@link PackedMdAst} reads single fields by their position in this list.
+ */
+final class MdAstCodec {
+    static final int NO_VALUE = 0;
+    static final int STRING_VALUE = 1;
+    static final int EXPRESSION_VALUE = 2;
+
+    private static final Align[] ALIGN_VALUES = Align.values();
+    private static final MdAstReferenceType[] REFERENCE_TYPE_VALUES = MdAstReferenceType.values();
+
+    private MdAstCodec() {
+    }
+
+    interface FieldWriter<E extends Exception> {
+        void writeInt(int value) throws E;
+
+        void writeString(@Nullable String value) throws E;
+    }
+
+    interface FieldReader<E extends Exception> {
+        int readInt() throws E;
+
+        @Nullable
+        String readString() throws E;
+    }
+
+    static <E extends Exception> void writeFields(MdAstKind kind, MdAstNode node, FieldWriter<E> out) throws E {
+        switch (kind) {
+            case HEADING -> out.writeInt(((MdAstHeading) node).depth);
+            case LIST -> {
+                var list = (MdAstList) node;
+                out.writeInt(list.ordered ? 1 : 0);
+                out.writeInt(list.start);
+                out.writeInt(list.spread ? 1 : 0);
+            }
+            case LIST_ITEM -> out.writeInt(((MdAstListItem) node).spread ? 1 : 0);
+            case HTML, TEXT, INLINE_CODE, MDX_JSX_EXPRESSION_ATTRIBUTE -> out.writeString(((MdAstLiteral) node).value);
+            case YAML_FRONTMATTER -> out.writeString(((MdAstYamlFrontmatter) node).value);
+            case CODE -> {
+                var code = (MdAstCode) node;
+                out.writeString(code.lang);
+                out.writeString(code.meta);
+                out.writeString(code.value);
+            }
+            case DEFINITION -> {
+                var definition = (MdAstDefinition) node;
+                out.writeString(definition.identifier);
+                out.writeString(definition.label);
+                out.writeString(definition.url);
+                out.writeString(definition.title);
+            }
+            case LINK -> {
+                var link = (MdAstLink) node;
+                out.writeString(link.url);
+                out.writeString(link.title);
+            }
+            case IMAGE -> {
+                var image = (MdAstImage) node;
+                out.writeString(image.alt);
+                out.writeString(image.url);
+                out.writeString(image.title);
+            }
+            case LINK_REFERENCE -> {
+                var reference = (MdAstLinkReference) node;
+                out.writeString(reference.identifier);
+                out.writeString(reference.label);
+                out.writeInt(encodeReferenceType(reference.referenceType));
+            }
+            case IMAGE_REFERENCE -> {
+                var reference = (MdAstImageReference) node;
+                out.writeString(reference.alt);
+                out.writeString(reference.identifier);
+                out.writeString(reference.label);
+                out.writeInt(encodeReferenceType(reference.referenceType));
+            }
+            case TABLE -> {
+                var align = ((GfmTable) node).align;
+                if (align == null) {
+                    out.writeInt(0);
+                } else {
+                    out.writeInt(align.size() + 1);
+                    for (var value : align) {
+                        out.writeInt(value.ordinal());
+                    }
+                }
+            }
+            case MDX_JSX_FLOW_ELEMENT, MDX_JSX_TEXT_ELEMENT -> out.writeString(((MdxJsxElementFields) node).name());
+            case MDX_JSX_ATTRIBUTE -> {
+                var attribute = (MdxJsxAttribute) node;
+                out.writeString(attribute.name);
+                if (attribute.hasExpressionValue()) {
+                    out.writeInt(EXPRESSION_VALUE);
+                    out.writeString(attribute.getExpressionValue());
+                } else if (attribute.hasStringValue()) {
+                    out.writeInt(STRING_VALUE);
+                    out.writeString(attribute.getStringValue());
+                } else {
+                    out.writeInt(NO_VALUE);
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Creates a node from its fields. JSX elements are created without attributes.
+     */
+    static <E extends Exception> MdAstNode readFields(MdAstKind kind, FieldReader<E> in) throws E {
+        return switch (kind) {
+            case ROOT -> new MdAstRoot();
+            case PARAGRAPH -> new MdAstParagraph();
+            case HEADING -> {
+                var heading = new MdAstHeading();
+                heading.depth = in.readInt();
+                yield heading;
+            }
+            case THEMATIC_BREAK -> new MdAstThematicBreak();
+            case BLOCKQUOTE -> new MdAstBlockquote();
+            case LIST -> {
+                var list = new MdAstList();
+                list.ordered = in.readInt() != 0;
+                list.start = in.readInt();
+                list.spread = in.readInt() != 0;
+                yield list;
+            }
+            case LIST_ITEM -> {
+                var listItem = new MdAstListItem();
+                listItem.spread = in.readInt() != 0;
+                yield listItem;
+            }
+            case HTML -> readLiteral(new MdAstHTML(), in);
+            case CODE -> {
+                var code = new MdAstCode();
+                code.lang = in.readString();
+                code.meta = in.readString();
+                code.value = in.readString();
+                yield code;
+            }
+            case DEFINITION -> {
+                var definition = new MdAstDefinition();
+                definition.identifier = in.readString();
+                definition.label = in.readString();
+                definition.url = in.readString();
+                definition.title = in.readString();
+                yield definition;
+            }
+            case TEXT -> readLiteral(new MdAstText(), in);
+            case EMPHASIS -> new MdAstEmphasis();
+            case STRONG -> new MdAstStrong();
+            case INLINE_CODE -> readLiteral(new MdAstInlineCode(), in);
+            case BREAK -> new MdAstBreak();
+            case LINK -> {
+                var link = new MdAstLink();
+                link.url = in.readString();
+                link.title = in.readString();
+                yield link;
+            }
+            case IMAGE -> {
+                var image = new MdAstImage();
+                image.alt = in.readString();
+                image.url = in.readString();
+                image.title = in.readString();
+                yield image;
+            }
+            case LINK_REFERENCE -> {
+                var reference = new MdAstLinkReference();
+                reference.identifier = in.readString();
+                reference.label = in.readString();
+                reference.referenceType = decodeReferenceType(in.readInt());
+                yield reference;
+            }
+            case IMAGE_REFERENCE -> {
+                var reference = new MdAstImageReference();
+                reference.alt = in.readString();
+                reference.identifier = in.readString();
+                reference.label = in.readString();
+                reference.referenceType = decodeReferenceType(in.readInt());
+                yield reference;
+            }
+            case DELETE -> new MdAstDelete();
+            case TABLE -> {
+                var table = new GfmTable();
+                var alignCount = in.readInt();
+                if (alignCount > 0) {
+                    table.align = new ArrayList<>(alignCount - 1);
+                    for (var i = 0; i < alignCount - 1; i++) {
+                        table.align.add(decodeAlign(in.readInt()));
+                    }
+                }
+                yield table;
+            }
+            case TABLE_ROW -> new GfmTableRow();
+            case TABLE_CELL -> new GfmTableCell();
+            case YAML_FRONTMATTER -> {
+                var frontmatter = new MdAstYamlFrontmatter();
+                frontmatter.value = in.readString();
+                yield frontmatter;
+            }
+            case MDX_JSX_FLOW_ELEMENT -> new MdxJsxFlowElement(in.readString(), new ArrayList<>());
+            case MDX_JSX_TEXT_ELEMENT -> new MdxJsxTextElement(in.readString(), new ArrayList<>());
+            case MDX_JSX_ATTRIBUTE -> {
+                var attribute = new MdxJsxAttribute();
+                attribute.name = in.readString();
+                var valueKind = in.readInt();
+                if (valueKind == EXPRESSION_VALUE) {
+                    attribute.setExpression(in.readString());
+                } else if (valueKind == STRING_VALUE) {
+                    attribute.setValue(in.readString());
+                }
+                yield attribute;
+            }
+            case MDX_JSX_EXPRESSION_ATTRIBUTE -> readLiteral(new MdxJsxExpressionAttribute(), in);
+        };
+    }
+
+    private static <E extends Exception> MdAstNode readLiteral(MdAstLiteral node, FieldReader<E> in) throws E {
+        node.value = in.readString();
+        return node;
+    }
+
+    private static int encodeReferenceType(@Nullable MdAstReferenceType referenceType) {
+        return referenceType == null ? 0 : referenceType.ordinal() + 1;
+    }
+
+    @Nullable
+    static MdAstReferenceType decodeReferenceType(int value) {
+        return value == 0 ? null : REFERENCE_TYPE_VALUES[value - 1];
+    }
+
+    static Align decodeAlign(int value) {
+        return ALIGN_VALUES[value];
+    }
+}
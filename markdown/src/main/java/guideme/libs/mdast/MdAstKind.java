@@ -0,0 +1,76 @@
+package guideme.libs.mdast;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The node types known to this library, for the compact forms of mdast trees ({@link MdAstSerializer} and
+ * {@link PackedMdAst}). The ordinals are stored in these forms, so new kinds must only be added at the end.
+ */
+public enum MdAstKind {
+    ROOT("root"),
+    PARAGRAPH("paragraph"),
+    HEADING("heading"),
+    THEMATIC_BREAK("thematicBreak"),
+    BLOCKQUOTE("blockquote"),
+    LIST("list"),
+    LIST_ITEM("listItem"),
+    HTML("html"),
+    CODE("code"),
+    DEFINITION("definition"),
+    TEXT("text"),
+    EMPHASIS("emphasis"),
+    STRONG("strong"),
+    INLINE_CODE("inlineCode"),
+    BREAK("break"),
+    LINK("link"),
+    IMAGE("image"),
+    LINK_REFERENCE("linkReference"),
+    IMAGE_REFERENCE("imageReference"),
+    DELETE("delete"),
+    TABLE("table"),
+    TABLE_ROW("tableRow"),
+    TABLE_CELL("tableCell"),
+    YAML_FRONTMATTER("yamlFrontmatter"),
+    MDX_JSX_FLOW_ELEMENT("mdxJsxFlowElement"),
+    MDX_JSX_TEXT_ELEMENT("mdxJsxTextElement"),
+    MDX_JSX_ATTRIBUTE("mdxJsxAttribute"),
+    MDX_JSX_EXPRESSION_ATTRIBUTE("mdxJsxExpressionAttribute");
+
+    private static final MdAstKind[] VALUES = values();
+    private static final Map<String, MdAstKind> BY_TYPE = new HashMap<>();
+
+    static {
+        for (var kind : VALUES) {
+            BY_TYPE.put(kind.type, kind);
+        }
+    }
+
+    private final String type;
+
+    MdAstKind(String type) {
+        this.type = type;
+    }
+
+    /**
+     * The mdast type of nodes of this kind.
+     */
+    public String type() {
+        return type;
+    }
+
+    public boolean isJsxElement() {
+        return this == MDX_JSX_FLOW_ELEMENT || this == MDX_JSX_TEXT_ELEMENT;
+    }
+
+    @Nullable
+    public static MdAstKind forType(String type) {
+        return BY_TYPE.get(type);
+    }
+
+    @Nullable
+    static MdAstKind forOrdinal(int ordinal) {
+        return ordinal >= 0 && ordinal < VALUES.length ? VALUES[ordinal] : null;
+    }
+}
@@ -0,0 +1,226 @@
+package guideme.libs.mdast;
+
+import guideme.libs.mdast.mdx.model.MdxJsxAttributeNode;
+import guideme.libs.mdast.mdx.model.MdxJsxElementFields;
+import guideme.libs.mdast.model.MdAstNode;
+import guideme.libs.mdast.model.MdAstParent;
+import guideme.libs.mdast.model.MdAstPosition;
+import guideme.libs.mdast.model.MdAstRoot;
+import guideme.libs.micromark.Point;
+import guideme.libs.unist.UnistPoint;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Reads and writes mdast trees in a compact binary form.
+ * <p>
+ * Strings are pooled per tree, so repeated tag and attribute names are only stored once. Only node types known to this
+ * library can be serialized, and the fields of each node are stored as described in {@link MdAstCodec}. The format may
+ * change between versions of this library, which is reflected by {@link #FORMAT_VERSION}.
+ */
+public final class MdAstSerializer {
+    /**
+     * Incremented whenever the binary format changes in an incompatible way.
+     */
+    public static final int FORMAT_VERSION = 2;
+
+    private static final int MAGIC = 0x4d444153; // MDAS
+
+    private MdAstSerializer() {
+    }
+
+    public static void write(MdAstRoot root, DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        new Writer(out).writeNode(root);
+    }
+
+    public static MdAstRoot read(DataInput in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a serialized mdast tree");
+        }
+        var version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported mdast format version " + version);
+        }
+        var node = new Reader(in).readNode();
+        if (!(node instanceof MdAstRoot root)) {
+            throw new IOException("Expected a root node, but got " + node.type());
+        }
+        return root;
+    }
+
+    private static final class Writer implements MdAstCodec.FieldWriter<IOException> {
+        private final DataOutput out;
+        private final Map<String, Integer> stringPool = new HashMap<>();
+
+        Writer(DataOutput out) {
+            this.out = out;
+        }
+
+        void writeNode(MdAstNode node) throws IOException {
+            var kind = MdAstKind.forType(node.type());
+            if (kind == null) {
+                throw new IllegalArgumentException("Cannot serialize node of type " + node.type());
+            }
+
+            out.writeByte(kind.ordinal());
+            MdAstCodec.writeFields(kind, node, this);
+
+            if (node instanceof MdxJsxElementFields element) {
+                var attributes = element.attributes();
+                writeInt(attributes.size());
+                for (var attribute : attributes) {
+                    writeNode((MdAstNode) attribute);
+                }
+            }
+
+            var position = node.position;
+            if (position == null || position.start == null || position.end == null) {
+                out.writeBoolean(false);
+            } else {
+                out.writeBoolean(true);
+                writePoint(position.start);
+                writePoint(position.end);
+            }
+
+            if (node instanceof MdAstParent<?> parent) {
+                var children = parent.children();
+                writeInt(children.size());
+                for (var child : children) {
+                    writeNode((MdAstNode) child);
+                }
+            }
+        }
+
+        private void writePoint(UnistPoint point) throws IOException {
+            writeInt(point.line());
+            writeInt(point.column());
+            writeInt(point.offset());
+        }
+
+        /**
+         * 0 is null, 1 is a new string that follows inline, n > 1 references the (n-2)th pooled string.
+         */
+        @Override
+        public void writeString(@Nullable String value) throws IOException {
+            if (value == null) {
+                writeInt(0);
+                return;
+            }
+            var pooled = stringPool.get(value);
+            if (pooled != null) {
+                writeInt(pooled + 2);
+                return;
+            }
+            stringPool.put(value, stringPool.size());
+            writeInt(1);
+            var bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        /**
+         * Writes a variable-length int.
+         */
+        @Override
+        public void writeInt(int value) throws IOException {
+            while ((value & ~0x7F) != 0) {
+                out.writeByte((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.writeByte(value);
+        }
+    }
+
+    private static final class Reader implements MdAstCodec.FieldReader<IOException> {
+        private final DataInput in;
+        private final List<String> stringPool = new ArrayList<>();
+
+        Reader(DataInput in) {
+            this.in = in;
+        }
+
+        MdAstNode readNode() throws IOException {
+            var ordinal = in.readByte();
+            var kind = MdAstKind.forOrdinal(ordinal);
+            if (kind == null) {
+                throw new IOException("Unknown node kind " + ordinal);
+            }
+
+            var node = MdAstCodec.readFields(kind, this);
+
+            if (node instanceof MdxJsxElementFields element) {
+                var count = readInt();
+                for (var i = 0; i < count; i++) {
+                    element.attributes().add((MdxJsxAttributeNode) readNode());
+                }
+            }
+
+            if (in.readBoolean()) {
+                var start = readPoint();
+                var end = readPoint();
+                node.position = new MdAstPosition(start, end);
+            }
+
+            if (node instanceof MdAstParent<?> parent) {
+                var count = readInt();
+                for (var i = 0; i < count; i++) {
+                    parent.addChild(readNode());
+                }
+            }
+
+            return node;
+        }
+
+        private Point readPoint() throws IOException {
+            var line = readInt();
+            var column = readInt();
+            var offset = readInt();
+            return new Point(line, column, offset, -1);
+        }
+
+        @Override
+        @Nullable
+        public String readString() throws IOException {
+            var tag = readInt();
+            if (tag == 0) {
+                return null;
+            } else if (tag == 1) {
+                var bytes = new byte[readInt()];
+                in.readFully(bytes);
+                var value = new String(bytes, StandardCharsets.UTF_8);
+                stringPool.add(value);
+                return value;
+            } else {
+                return stringPool.get(tag - 2);
+            }
+        }
+
+        /**
+         * Reads a variable-length int.
+         */
+        @Override
+        public int readInt() throws IOException {
+            int result = 0;
+            int shift = 0;
+            byte b;
+            do {
+                if (shift >= 32) {
+                    throw new IOException("VarInt too long");
+                }
+                b = in.readByte();
+                result |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return result;
+        }
+    }
+}
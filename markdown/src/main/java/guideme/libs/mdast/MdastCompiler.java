@@ -33,6 +33,8 @@ import guideme.libs.micromark.NormalizeIdentifier;
 import guideme.libs.micromark.Point;
 import guideme.libs.micromark.Token;
 import guideme.libs.micromark.TokenProperty;
+import guideme.libs.micromark.TokenTypeMap;
+import guideme.libs.micromark.TokenTypes;
 import guideme.libs.micromark.TokenizeContext;
 import guideme.libs.micromark.Tokenizer;
 import guideme.libs.micromark.Types;
@@ -50,8 +52,13 @@ import org.jetbrains.annotations.Nullable;
 final class MdastCompiler implements MdastContext {
 
     private static final TokenProperty<Boolean> SPREAD = new TokenProperty<>();
+    private static final int LIST_ORDERED = TokenTypes.id(Types.listOrdered);
+    private static final int LIST_UNORDERED = TokenTypes.id(Types.listUnordered);
 
     private final MdastExtension extension;
+    private final boolean positions;
+    private final TokenTypeMap<MdastExtension.Handler> enterHandlers;
+    private final TokenTypeMap<MdastExtension.Handler> exitHandlers;
 
     boolean expectingFirstListItemValue;
     boolean flowCodeInside;
@@ -69,7 +76,17 @@ final class MdastCompiler implements MdastContext {
     private TokenizeContext currentTokenContext;
     private final StringBuilder stringBuffer = new StringBuilder();
 
+    /**
+     * Consecutive data is collected here instead of being concatenated to the text node right away, which would copy
+     * the text so far for every token and take quadratic time for long paragraphs. The value of the node is set once a
+     * node is done, which is when it is resumed, when data is added to another node, or at the end.
+     */
+    @Nullable
+    private MdAstLiteral pendingText;
+    private final StringBuilder pendingTextValue = new StringBuilder();
+
     MdastCompiler(MdastOptions options) {
+        positions = options.isPositions();
         var extensionBuilder = MdastExtension.builder()
                 .canContainEol(
                         "emphasis",
@@ -172,6 +189,8 @@ final class MdastCompiler implements MdastContext {
         }
 
         extension = extensionBuilder.build();
+        enterHandlers = new TokenTypeMap<>(extension.enter);
+        exitHandlers = new TokenTypeMap<>(extension.exit);
     }
 
     enum CharacterReferenceType {
@@ -192,8 +211,8 @@ final class MdastCompiler implements MdastContext {
 
             // We preprocess lists to add `listItem` tokens, and to infer whether
             // items the list itself are spread out.
-            if (event.token().type.equals(Types.listOrdered) ||
-                    event.token().type.equals(Types.listUnordered)) {
+            var typeId = event.token().typeId();
+            if (typeId == LIST_ORDERED || typeId == LIST_UNORDERED) {
                 if (event.isEnter()) {
                     listStack.add(index);
                 } else {
@@ -208,8 +227,8 @@ final class MdastCompiler implements MdastContext {
 
         while (++index < events.size()) {
             var event = events.get(index);
-            var handlerMap = event.isEnter() ? extension.enter : extension.exit;
-            var handler = handlerMap.get(event.token().type);
+            var handlers = event.isEnter() ? enterHandlers : exitHandlers;
+            var handler = handlers.get(event.token());
 
             if (handler != null) {
                 currentTokenContext = event.context();
@@ -223,6 +242,8 @@ final class MdastCompiler implements MdastContext {
             }
         }
 
+        flushPendingText();
+
         if (!tokenStack.isEmpty()) {
             var tail = tokenStack.get(tokenStack.size() - 1);
             var handler = Optional.ofNullable(tail.onError()).orElse(this::defaultOnError);
@@ -230,13 +251,15 @@ final class MdastCompiler implements MdastContext {
         }
 
         // Figure out `root` position.
-        tree.position = new MdAstPosition()
-                .withStart(point(
-                        !events.isEmpty() ? events.get(0).token().start : makePoint(1, 1, 0)))
-                .withEnd(point(
-                        !events.isEmpty()
-                                ? events.get(events.size() - 2).token().end
-                                : makePoint(1, 1, 0)));
+        if (positions) {
+            tree.position = new MdAstPosition()
+                    .withStart(point(
+                            !events.isEmpty() ? events.get(0).token().start : makePoint(1, 1, 0)))
+                    .withEnd(point(
+                            !events.isEmpty()
+                                    ? events.get(events.size() - 2).token().end
+                                    : makePoint(1, 1, 0)));
+        }
 
         for (var transform : extension.transforms) {
             tree = transform.transform(tree);
@@ -246,7 +269,7 @@ final class MdastCompiler implements MdastContext {
     }
 
     private static UnistPoint makePoint(int line, int column, int offset) {
-        return new Point(line, column, offset, -1, -1);
+        return new Point(line, column, offset, -1);
     }
 
     private static int prepareList(List<Tokenizer.Event> events, int start, int length) {
@@ -441,8 +464,10 @@ final class MdastCompiler implements MdastContext {
         parent.addChild(node);
         this.stack.add(node);
         this.tokenStack.add(new TokenStackEntry(token, errorHandler));
-        node.position = new MdAstPosition();
-        node.position.start = token.start;
+        if (positions) {
+            node.position = new MdAstPosition();
+            node.position.start = token.start;
+        }
         return node;
     }
 
@@ -491,8 +516,10 @@ final class MdastCompiler implements MdastContext {
         }
 
         Assert.check(!node.type().equals("fragment"), "unexpected fragment `exit`ed");
-        Assert.check(node.position != null, "expected `position` to be defined");
-        node.position.end = token.end;
+        if (positions) {
+            Assert.check(node.position != null, "expected `position` to be defined");
+            node.position.end = token.end;
+        }
         return node;
     }
 
@@ -508,6 +535,7 @@ final class MdastCompiler implements MdastContext {
     }
 
     public String resume() {
+        flushPendingText();
         stringBuffer.setLength(0);
         ListUtils.pop(this.stack).toText(stringBuffer);
         return stringBuffer.toString();
@@ -635,8 +663,9 @@ final class MdastCompiler implements MdastContext {
         if (tail == null || !tail.type().equals("text")) {
             // Add a new text node.
             tail = text();
-            // @ts-expect-error: we’ll add `end` later.
-            tail.position = new MdAstPosition().withStart(token.start);
+            if (positions) {
+                tail.position = new MdAstPosition().withStart(token.start);
+            }
             // @ts-expect-error: Assume `parent` accepts `text`.
             parent.addChild(tail);
         }
@@ -647,12 +676,31 @@ final class MdastCompiler implements MdastContext {
     private void onexitdata(MdastContext context, Token token) {
         var tail = ListUtils.pop(stack);
         Assert.check(tail != null, "expected a `node` to be on the stack");
-        Assert.check(tail.position != null, "expected `node` to have an open position");
         if (!(tail instanceof MdAstLiteral literal)) {
             throw new IllegalStateException("expected a `literal` to be on the stack");
         }
-        literal.value += this.sliceSerialize(token);
-        literal.position.end = point(token.end);
+        appendText(literal, this.sliceSerialize(token));
+        if (positions) {
+            Assert.check(tail.position != null, "expected `node` to have an open position");
+            literal.position.end = point(token.end);
+        }
+    }
+
+    private void appendText(MdAstLiteral literal, String value) {
+        if (pendingText != literal) {
+            flushPendingText();
+            pendingText = literal;
+            pendingTextValue.append(literal.value);
+        }
+        pendingTextValue.append(value);
+    }
+
+    private void flushPendingText() {
+        if (pendingText != null) {
+            pendingText.value = pendingTextValue.toString();
+            pendingText = null;
+            pendingTextValue.setLength(0);
+        }
     }
 
     private void onexitlineending(MdastContext ignored, Token token) {
@@ -665,8 +713,10 @@ final class MdastCompiler implements MdastContext {
                 throw new IllegalStateException("expected `parent`");
             }
             var tail = (MdAstNode) parent.children().get(parent.children().size() - 1);
-            Assert.check(tail.position != null, "expected tail to have a starting position");
-            tail.position.end = point(token.end);
+            if (positions) {
+                Assert.check(tail.position != null, "expected tail to have a starting position");
+                tail.position.end = point(token.end);
+            }
             atHardBreak = false;
             return;
         }
@@ -893,10 +943,12 @@ final class MdastCompiler implements MdastContext {
 
         var tail = ListUtils.pop(stack);
         Assert.check(tail != null, "expected `node`");
-        Assert.check(tail.position != null, "expected `node.position`");
         if (tail instanceof MdAstLiteral literal) {
-            literal.value += value;
-            literal.position.end = point(token.end);
+            appendText(literal, value);
+            if (positions) {
+                Assert.check(tail.position != null, "expected `node.position`");
+                literal.position.end = point(token.end);
+            }
         } else {
             throw new IllegalStateException("expected `node.value`");
         }
@@ -8,6 +8,7 @@ import java.util.function.Consumer;
 
 public class MdastOptions extends ParseOptions {
     public final List<MdastExtension> mdastExtensions = new ArrayList<>();
+    private boolean positions = true;
 
     @Override
     public MdastOptions withSyntaxExtension(Extension extension) {
@@ -25,4 +26,18 @@ public class MdastOptions extends ParseOptions {
         mdastExtensions.add(extension);
         return this;
     }
+
+    /**
+     * Whether the nodes of the tree get a {@link guideme.libs.mdast.model.MdAstPosition}. Without positions, the tree
+     * does not keep the points of the tokenizer alive, but errors found after parsing can't point at the source.
+     * Defaults to true.
+     */
+    public boolean isPositions() {
+        return positions;
+    }
+
+    public MdastOptions withPositions(boolean positions) {
+        this.positions = positions;
+        return this;
+    }
 }
@@ -0,0 +1,562 @@
+package guideme.libs.mdast;
+
+import guideme.libs.mdast.mdx.model.MdxJsxAttributeNode;
+import guideme.libs.mdast.mdx.model.MdxJsxElementFields;
+import guideme.libs.mdast.model.MdAstNode;
+import guideme.libs.mdast.model.MdAstParent;
+import guideme.libs.mdast.model.MdAstPosition;
+import guideme.libs.mdast.model.MdAstReferenceType;
+import guideme.libs.mdast.model.MdAstRoot;
+import guideme.libs.micromark.Point;
+import guideme.libs.micromark.extensions.gfm.Align;
+import guideme.libs.unist.UnistNode;
+import guideme.libs.unist.UnistPoint;
+import guideme.libs.unist.UnistPosition;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A read-only mdast tree stored in a few flat arrays, for trees that are kept in memory for a long time.
+ * <p>
+ * Nodes are identified by their index, in the order of a depth-first traversal, so the packed node is {@link #ROOT}.
+ * The tree is navigated with {@link #firstChild}, {@link #nextSibling} and {@link #parent}, which return {@link #NONE}
+ * where there is no such node, or with a {@link Visitor}. The attributes of JSX elements are nodes too, but they are
+ * not children of their element, see {@link #attribute}.
+ * <p>
+ * Strings are pooled per tree. The fields of nodes are stored as described in {@link MdAstCodec} and read with the
+ * methods named after them, which throw an {@link IllegalArgumentException} for nodes that don't have the field. Only
+ * node types known to this library can be packed, and {@link MdAstNode#data} is not kept.
+ */
+public final class PackedMdAst {
+    public static final int ROOT = 0;
+
+    public static final int NONE = -1;
+
+    private static final MdAstKind[] KINDS = MdAstKind.values();
+
+    private final byte[] kinds;
+    private final int[] parents;
+    private final int[] firstChildren;
+    private final int[] nextSiblings;
+    /**
+     * Where the fields of each node start in {@link #fields}. Strings are stored as their index in {@link #strings}, or
+     * -1 for null. JSX elements are followed by their number of attributes and the index of each attribute node.
+     */
+    private final int[] fieldStart;
+    private final int[] fields;
+    private final String[] strings;
+    /**
+     * Line, column and offset of the start and end of each node, or null if no node has a position. The line is 0 for
+     * nodes without a position.
+     */
+    private final int @Nullable [] positions;
+
+    private PackedMdAst(Builder builder) {
+        var size = builder.size;
+        kinds = Arrays.copyOf(builder.kinds, size);
+        parents = Arrays.copyOf(builder.parents, size);
+        firstChildren = Arrays.copyOf(builder.firstChildren, size);
+        nextSiblings = Arrays.copyOf(builder.nextSiblings, size);
+        fieldStart = Arrays.copyOf(builder.fieldStart, size);
+        fields = Arrays.copyOf(builder.fields, builder.fieldCount);
+        strings = builder.strings.toArray(new String[0]);
+        positions = builder.hasPositions ? Arrays.copyOf(builder.positions, size * 6) : null;
+    }
+
+    /**
+     * Packs a node and everything in it, usually the root of a document. Nodes of types that have no packed form are
+     * left out along with their content, see {@link #canPack}.
+     *
+     * @throws IllegalArgumentException If the node itself has no packed form.
+     */
+    public static PackedMdAst pack(MdAstNode node) {
+        var builder = new Builder();
+        builder.add(node, NONE);
+        return new PackedMdAst(builder);
+    }
+
+    /**
+     * Checks that a node and everything in it can be packed without leaving anything out.
+     */
+    public static boolean canPack(MdAstNode node) {
+        if (MdAstKind.forType(node.type()) == null) {
+            return false;
+        }
+        if (node instanceof MdxJsxElementFields element) {
+            for (var attribute : element.attributes()) {
+                if (!canPack((MdAstNode) attribute)) {
+                    return false;
+                }
+            }
+        }
+        if (node instanceof MdAstParent<?> parent) {
+            for (var child : parent.children()) {
+                if (!canPack((MdAstNode) child)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Builds the object model of a tree that was packed from a root node.
+     */
+    public MdAstRoot toMdAst() {
+        return (MdAstRoot) toMdAst(ROOT);
+    }
+
+    /**
+     * Builds the object model of a node and everything in it.
+     */
+    public MdAstNode toMdAst(int node) {
+        var result = MdAstCodec.readFields(kind(node), new FieldCursor(fieldStart[node]));
+
+        if (result instanceof MdxJsxElementFields element) {
+            var count = attributeCount(node);
+            for (var i = 0; i < count; i++) {
+                element.attributes().add((MdxJsxAttributeNode) toMdAst(attribute(node, i)));
+            }
+        }
+
+        result.position = position(node);
+
+        if (result instanceof MdAstParent<?> parent) {
+            for (var child = firstChild(node); child != NONE; child = nextSibling(child)) {
+                parent.addChild(toMdAst(child));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * The number of nodes, including attributes.
+     */
+    public int size() {
+        return kinds.length;
+    }
+
+    public MdAstKind kind(int node) {
+        return KINDS[kinds[node]];
+    }
+
+    public String type(int node) {
+        return kind(node).type();
+    }
+
+    public int parent(int node) {
+        return parents[node];
+    }
+
+    public int firstChild(int node) {
+        return firstChildren[node];
+    }
+
+    public int nextSibling(int node) {
+        return nextSiblings[node];
+    }
+
+    @Nullable
+    public MdAstPosition position(int node) {
+        if (positions == null || positions[node * 6] == 0) {
+            return null;
+        }
+        var i = node * 6;
+        return new MdAstPosition(
+                new Point(positions[i], positions[i + 1], positions[i + 2], -1),
+                new Point(positions[i + 3], positions[i + 4], positions[i + 5], -1));
+    }
+
+    /**
+     * A view of a node, for APIs that refer to nodes as {@link UnistNode}.
+     */
+    public UnistNode node(int node) {
+        return new NodeView(node);
+    }
+
+    /**
+     * The value of literals: text, inline code, code, HTML, frontmatter and JSX expression attributes.
+     */
+    public String value(int node) {
+        return switch (kind(node)) {
+            case TEXT, INLINE_CODE, HTML, YAML_FRONTMATTER, MDX_JSX_EXPRESSION_ATTRIBUTE -> string(node, 0);
+            case CODE -> string(node, 2);
+            default -> throw noField(node, "value");
+        };
+    }
+
+    public int depth(int node) {
+        checkKind(node, MdAstKind.HEADING, "depth");
+        return field(node, 0);
+    }
+
+    public boolean ordered(int node) {
+        checkKind(node, MdAstKind.LIST, "ordered");
+        return field(node, 0) != 0;
+    }
+
+    public int start(int node) {
+        checkKind(node, MdAstKind.LIST, "start");
+        return field(node, 1);
+    }
+
+    public boolean spread(int node) {
+        return switch (kind(node)) {
+            case LIST -> field(node, 2) != 0;
+            case LIST_ITEM -> field(node, 0) != 0;
+            default -> throw noField(node, "spread");
+        };
+    }
+
+    @Nullable
+    public String lang(int node) {
+        checkKind(node, MdAstKind.CODE, "lang");
+        return string(node, 0);
+    }
+
+    @Nullable
+    public String meta(int node) {
+        checkKind(node, MdAstKind.CODE, "meta");
+        return string(node, 1);
+    }
+
+    @Nullable
+    public String identifier(int node) {
+        return switch (kind(node)) {
+            case DEFINITION, LINK_REFERENCE -> string(node, 0);
+            case IMAGE_REFERENCE -> string(node, 1);
+            default -> throw noField(node, "identifier");
+        };
+    }
+
+    @Nullable
+    public String label(int node) {
+        return switch (kind(node)) {
+            case DEFINITION, LINK_REFERENCE -> string(node, 1);
+            case IMAGE_REFERENCE -> string(node, 2);
+            default -> throw noField(node, "label");
+        };
+    }
+
+    @Nullable
+    public String url(int node) {
+        return switch (kind(node)) {
+            case DEFINITION -> string(node, 2);
+            case LINK -> string(node, 0);
+            case IMAGE -> string(node, 1);
+            default -> throw noField(node, "url");
+        };
+    }
+
+    @Nullable
+    public String title(int node) {
+        return switch (kind(node)) {
+            case DEFINITION -> string(node, 3);
+            case LINK -> string(node, 1);
+            case IMAGE -> string(node, 2);
+            default -> throw noField(node, "title");
+        };
+    }
+
+    @Nullable
+    public String alt(int node) {
+        return switch (kind(node)) {
+            case IMAGE, IMAGE_REFERENCE -> string(node, 0);
+            default -> throw noField(node, "alt");
+        };
+    }
+
+    @Nullable
+    public MdAstReferenceType referenceType(int node) {
+        return switch (kind(node)) {
+            case LINK_REFERENCE -> MdAstCodec.decodeReferenceType(field(node, 2));
+            case IMAGE_REFERENCE -> MdAstCodec.decodeReferenceType(field(node, 3));
+            default -> throw noField(node, "referenceType");
+        };
+    }
+
+    @Nullable
+    public List<Align> align(int node) {
+        checkKind(node, MdAstKind.TABLE, "align");
+        var count = field(node, 0) - 1;
+        if (count < 0) {
+            return null;
+        }
+        var result = new ArrayList<Align>(count);
+        for (var i = 0; i < count; i++) {
+            result.add(MdAstCodec.decodeAlign(field(node, 1 + i)));
+        }
+        return result;
+    }
+
+    /**
+     * The name of JSX elements and attributes.
+     */
+    public String name(int node) {
+        return switch (kind(node)) {
+            case MDX_JSX_FLOW_ELEMENT, MDX_JSX_TEXT_ELEMENT, MDX_JSX_ATTRIBUTE -> string(node, 0);
+            default -> throw noField(node, "name");
+        };
+    }
+
+    public int attributeCount(int node) {
+        checkElement(node);
+        return field(node, 1);
+    }
+
+    /**
+     * @return The attribute node, either {@link MdAstKind#MDX_JSX_ATTRIBUTE} or
+     *         {@link MdAstKind#MDX_JSX_EXPRESSION_ATTRIBUTE}.
+     */
+    public int attribute(int node, int index) {
+        checkElement(node);
+        if (index < 0 || index >= field(node, 1)) {
+            throw new IndexOutOfBoundsException("Attribute " + index + " of " + type(node));
+        }
+        return field(node, 2 + index);
+    }
+
+    /**
+     * The value of a JSX attribute, if it is a string.
+     */
+    @Nullable
+    public String stringValue(int node) {
+        checkKind(node, MdAstKind.MDX_JSX_ATTRIBUTE, "stringValue");
+        return field(node, 1) == MdAstCodec.STRING_VALUE ? string(node, 2) : null;
+    }
+
+    /**
+     * The value of a JSX attribute, if it is an expression.
+     */
+    @Nullable
+    public String expressionValue(int node) {
+        checkKind(node, MdAstKind.MDX_JSX_ATTRIBUTE, "expressionValue");
+        return field(node, 1) == MdAstCodec.EXPRESSION_VALUE ? string(node, 2) : null;
+    }
+
+    /**
+     * Visits a node and its children, like {@link MdAstNode#visit}.
+     */
+    public MdAstVisitor.Result visit(int node, Visitor visitor) {
+        var result = visitor.beforeNode(this, node);
+        if (result == MdAstVisitor.Result.STOP) {
+            return result;
+        }
+        if (result != MdAstVisitor.Result.SKIP_CHILDREN) {
+            for (var child = firstChild(node); child != NONE; child = nextSibling(child)) {
+                if (visit(child, visitor) == MdAstVisitor.Result.STOP) {
+                    return MdAstVisitor.Result.STOP;
+                }
+            }
+        }
+        return visitor.afterNode(this, node);
+    }
+
+    private int field(int node, int index) {
+        return fields[fieldStart[node] + index];
+    }
+
+    @Nullable
+    private String string(int node, int index) {
+        return string(field(node, index));
+    }
+
+    @Nullable
+    private String string(int index) {
+        return index < 0 ? null : strings[index];
+    }
+
+    private void checkKind(int node, MdAstKind kind, String field) {
+        if (kind(node) != kind) {
+            throw noField(node, field);
+        }
+    }
+
+    private void checkElement(int node) {
+        if (!kind(node).isJsxElement()) {
+            throw noField(node, "attributes");
+        }
+    }
+
+    private IllegalArgumentException noField(int node, String field) {
+        return new IllegalArgumentException("Node of type " + type(node) + " has no " + field);
+    }
+
+    public interface Visitor {
+        default MdAstVisitor.Result beforeNode(PackedMdAst tree, int node) {
+            return MdAstVisitor.Result.CONTINUE;
+        }
+
+        default MdAstVisitor.Result afterNode(PackedMdAst tree, int node) {
+            return MdAstVisitor.Result.CONTINUE;
+        }
+    }
+
+    private final class NodeView implements UnistNode {
+        private final int node;
+
+        NodeView(int node) {
+            this.node = node;
+        }
+
+        @Override
+        public String type() {
+            return PackedMdAst.this.type(node);
+        }
+
+        @Override
+        public @Nullable Object data() {
+            return null;
+        }
+
+        @Override
+        public @Nullable UnistPosition position() {
+            return PackedMdAst.this.position(node);
+        }
+    }
+
+    /**
+     * Reads the fields of one node in order.
+     */
+    private final class FieldCursor implements MdAstCodec.FieldReader<RuntimeException> {
+        private int offset;
+
+        FieldCursor(int offset) {
+            this.offset = offset;
+        }
+
+        @Override
+        public int readInt() {
+            return fields[offset++];
+        }
+
+        @Override
+        public @Nullable String readString() {
+            return string(fields[offset++]);
+        }
+    }
+
+    private static final class Builder implements MdAstCodec.FieldWriter<RuntimeException> {
+        private int size;
+        private byte[] kinds = new byte[64];
+        private int[] parents = new int[64];
+        private int[] firstChildren = new int[64];
+        private int[] nextSiblings = new int[64];
+        private int[] fieldStart = new int[64];
+        private int[] positions = new int[64 * 6];
+        private boolean hasPositions;
+
+        private int fieldCount;
+        private int[] fields = new int[128];
+
+        private final List<String> strings = new ArrayList<>();
+        private final Map<String, Integer> stringPool = new HashMap<>();
+
+        int add(MdAstNode node, int parent) {
+            var kind = MdAstKind.forType(node.type());
+            if (kind == null) {
+                if (parent == NONE) {
+                    throw new IllegalArgumentException("Cannot pack node of type " + node.type());
+                }
+                return NONE;
+            }
+
+            var index = size++;
+            if (index == kinds.length) {
+                var capacity = index * 2;
+                kinds = Arrays.copyOf(kinds, capacity);
+                parents = Arrays.copyOf(parents, capacity);
+                firstChildren = Arrays.copyOf(firstChildren, capacity);
+                nextSiblings = Arrays.copyOf(nextSiblings, capacity);
+                fieldStart = Arrays.copyOf(fieldStart, capacity);
+                positions = Arrays.copyOf(positions, capacity * 6);
+            }
+            kinds[index] = (byte) kind.ordinal();
+            parents[index] = parent;
+            firstChildren[index] = NONE;
+            nextSiblings[index] = NONE;
+            fieldStart[index] = fieldCount;
+            addPosition(index, node.position);
+
+            MdAstCodec.writeFields(kind, node, this);
+
+            if (node instanceof MdxJsxElementFields element) {
+                var attributes = element.attributes();
+                writeInt(attributes.size());
+                // The attribute nodes are added after all fields of the element
+                var attributeFields = fieldCount;
+                for (var i = 0; i < attributes.size(); i++) {
+                    writeInt(NONE);
+                }
+                for (var i = 0; i < attributes.size(); i++) {
+                    // Adding the attribute may replace the fields array
+                    var attribute = add((MdAstNode) attributes.get(i), index);
+                    fields[attributeFields + i] = attribute;
+                }
+            }
+
+            if (node instanceof MdAstParent<?> parentNode) {
+                var previous = NONE;
+                for (var child : parentNode.children()) {
+                    var childIndex = add((MdAstNode) child, index);
+                    if (childIndex == NONE) {
+                        continue;
+                    }
+                    if (previous == NONE) {
+                        firstChildren[index] = childIndex;
+                    } else {
+                        nextSiblings[previous] = childIndex;
+                    }
+                    previous = childIndex;
+                }
+            }
+
+            return index;
+        }
+
+        private void addPosition(int index, @Nullable MdAstPosition position) {
+            var i = index * 6;
+            if (position == null || position.start == null || position.end == null) {
+                positions[i] = 0;
+                return;
+            }
+            hasPositions = true;
+            addPoint(i, position.start);
+            addPoint(i + 3, position.end);
+        }
+
+        private void addPoint(int i, UnistPoint point) {
+            positions[i] = point.line();
+            positions[i + 1] = point.column();
+            positions[i + 2] = point.offset();
+        }
+
+        @Override
+        public void writeString(@Nullable String value) {
+            if (value == null) {
+                writeInt(-1);
+                return;
+            }
+            var pooled = stringPool.get(value);
+            if (pooled == null) {
+                pooled = strings.size();
+                strings.add(value);
+                stringPool.put(value, pooled);
+            }
+            writeInt(pooled);
+        }
+
+        @Override
+        public void writeInt(int value) {
+            if (fieldCount == fields.length) {
+                fields = Arrays.copyOf(fields, fieldCount * 2);
+            }
+            fields[fieldCount++] = value;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package guideme.libs.micromark;
+
+import guideme.libs.micromark.commonmark.Subtokenize;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Syntax extensions combined with the default syntax and compiled into construct tables, ready to parse documents.
+ * <p>
+ * Combining the extensions is only done once. Instances are not modified after they have been created and can be
+ * shared between threads. Every parse creates its own {@link ParseContext} for the state of the document being parsed.
+ */
+public final class CompiledSyntax {
+    private final Extension constructs;
+    final ConstructTable document;
+    final ConstructTable contentInitial;
+    final ConstructTable flowInitial;
+    final ConstructTable flow;
+    final ConstructTable string;
+    final ConstructTable text;
+
+    private CompiledSyntax(Extension constructs) {
+        this.constructs = constructs;
+        document = new ConstructTable(constructs.document);
+        contentInitial = new ConstructTable(constructs.contentInitial);
+        flowInitial = new ConstructTable(constructs.flowInitial);
+        flow = new ConstructTable(constructs.flow);
+        string = new ConstructTable(constructs.string);
+        text = new ConstructTable(constructs.text);
+    }
+
+    /**
+     * Combine the default syntax with the given syntax extensions.
+     */
+    public static CompiledSyntax compile(List<Extension> extensions) {
+        var actualExtensions = new ArrayList<Extension>();
+        actualExtensions.add(DefaultExtension.create());
+        actualExtensions.addAll(extensions);
+
+        return new CompiledSyntax(Extensions.combineExtensions(actualExtensions));
+    }
+
+    /**
+     * The combined extension. It is shared by all parses and must not be modified.
+     */
+    public Extension getConstructs() {
+        return constructs;
+    }
+
+    /**
+     * Creates the context for parsing a single document.
+     */
+    public ParseContext createParseContext() {
+        var parser = new ParseContext(this);
+        parser.content = Micromark.create(parser, InitializeContent.content);
+        parser.document = Micromark.create(parser, InitializeDocument.document);
+        parser.flow = Micromark.create(parser, InitializeFlow.flow);
+        parser.string = Micromark.create(parser, InitializeText.string);
+        parser.text = Micromark.create(parser, InitializeText.text);
+        return parser;
+    }
+
+    public List<Tokenizer.Event> parse(String text) {
+        return createParseContext().document.create().write(Preprocessor.preprocess(text, true));
+    }
+
+    public List<Tokenizer.Event> parseAndPostprocess(String text) {
+        return postprocess(parse(text));
+    }
+
+    /**
+     * Parses a part of a document. References can only be recognized if their label is defined, so the identifiers of
+     * the definitions in the rest of the document have to be given.
+     *
+     * @param defined Normalized identifiers of definitions outside the text, see
+     *                {@link NormalizeIdentifier#normalizeIdentifier}.
+     */
+    public List<Tokenizer.Event> parseAndPostprocess(String text, Collection<String> defined) {
+        var parser = createParseContext();
+        parser.defined.addAll(defined);
+        return postprocess(parser.document.create().write(Preprocessor.preprocess(text, true)));
+    }
+
+    private static List<Tokenizer.Event> postprocess(List<Tokenizer.Event> events) {
+        while (!Subtokenize.subtokenize(events)) {
+            // Empty
+        }
+        return events;
+    }
+}
@@ -0,0 +1,123 @@
+package guideme.libs.micromark;
+
+import guideme.libs.micromark.symbol.Codes;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The constructs of one content type (see {@link Extension}), compiled for dispatching on the current character code.
+ * <p>
+ * The lists for the virtual codes and ASCII are stored in an array indexed by code, so that looking up the constructs
+ * for a character does not box it or hash it. Other characters fall back to a map. The lists already include the
+ * constructs that apply to any code (the ones stored under {@link Codes#eof} in the extension), so trying constructs
+ * does not need to concatenate lists either.
+ * <p>
+ * Which codes have constructs of their own is also kept as a bitset, so that runs of characters that can't start a
+ * construct can be consumed at once (see {@link Tokenizer.Effects#consumeInert}).
+ */
+public final class ConstructTable {
+    /**
+     * A table without any constructs.
+     */
+    public static final ConstructTable EMPTY = new ConstructTable(Collections.emptyMap());
+
+    private static final int MIN_CODE = Codes.carriageReturn;
+    private static final int MAX_CODE = 127;
+
+    private final BitSet mayStart = new BitSet(MAX_CODE - MIN_CODE + 1);
+    private final List<Construct>[] own;
+    private final List<Construct>[] combined;
+    private final Map<Integer, List<Construct>> otherOwn = new HashMap<>();
+    private final Map<Integer, List<Construct>> otherCombined = new HashMap<>();
+    private final List<Construct> any;
+
+    public ConstructTable(Map<Integer, List<Construct>> constructs) {
+        own = newListArray();
+        combined = newListArray();
+
+        var any = constructs.get(Codes.eof);
+        this.any = any != null ? Collections.unmodifiableList(new ArrayList<>(any)) : Collections.emptyList();
+
+        for (var code = MIN_CODE; code <= MAX_CODE; code++) {
+            own[code - MIN_CODE] = copy(constructs.get(code));
+            combined[code - MIN_CODE] = combine(own[code - MIN_CODE]);
+            if (!own[code - MIN_CODE].isEmpty()) {
+                mayStart.set(code - MIN_CODE);
+            }
+        }
+
+        for (var entry : constructs.entrySet()) {
+            int code = entry.getKey();
+            if (code != Codes.eof && (code < MIN_CODE || code > MAX_CODE)) {
+                var list = copy(entry.getValue());
+                if (!list.isEmpty()) {
+                    otherOwn.put(code, list);
+                }
+                otherCombined.put(code, combine(list));
+            }
+        }
+    }
+
+    /**
+     * Whether any constructs are registered for exactly this code. Always false for {@link Codes#eof}.
+     */
+    public boolean mayStart(int code) {
+        if (code >= MIN_CODE && code <= MAX_CODE) {
+            return mayStart.get(code - MIN_CODE);
+        }
+        return !otherOwn.isEmpty() && otherOwn.containsKey(code);
+    }
+
+    /**
+     * The constructs that have to be tried for a code: the ones registered for it, followed by the ones that apply to
+     * any code. Empty for {@link Codes#eof}.
+     */
+    public List<Construct> get(int code) {
+        if (code >= MIN_CODE && code <= MAX_CODE) {
+            return combined[code - MIN_CODE];
+        } else if (code == Codes.eof) {
+            return Collections.emptyList();
+        }
+        return otherCombined.getOrDefault(code, any);
+    }
+
+    /**
+     * Only the constructs registered for exactly this code.
+     */
+    public List<Construct> getOwn(int code) {
+        if (code >= MIN_CODE && code <= MAX_CODE) {
+            return own[code - MIN_CODE];
+        } else if (code == Codes.eof) {
+            return Collections.emptyList();
+        }
+        return otherOwn.getOrDefault(code, Collections.emptyList());
+    }
+
+    private List<Construct> combine(List<Construct> list) {
+        if (any.isEmpty()) {
+            return list;
+        } else if (list.isEmpty()) {
+            return any;
+        }
+        var result = new ArrayList<Construct>(list.size() + any.size());
+        result.addAll(list);
+        result.addAll(any);
+        return Collections.unmodifiableList(result);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static List<Construct>[] newListArray() {
+        return new List[MAX_CODE - MIN_CODE + 1];
+    }
+
+    private static List<Construct> copy(List<Construct> list) {
+        if (list == null || list.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(new ArrayList<>(list));
+    }
+}
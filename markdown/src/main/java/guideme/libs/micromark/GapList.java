@@ -0,0 +1,187 @@
+package guideme.libs.micromark;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * A list backed by a gap buffer, used for the events of a tokenizer.
+ * <p>
+ * Resolvers walk forward through the events and replace ranges close to where they currently are. An
+ * {@link java.util.ArrayList} has to move all following events for every such splice, while this list keeps the unused
+ * capacity as a gap at the position of the last edit. Moving the gap only costs the distance to the next edit, so a
+ * forward pass that splices as it goes takes linear time in total.
+ */
+final class GapList<E> extends AbstractList<E> implements RandomAccess {
+    private static final int MIN_CAPACITY = 16;
+
+    private Object[] elements;
+    /**
+     * Index of the first unused slot.
+     */
+    private int gapStart;
+    /**
+     * Index after the last unused slot.
+     */
+    private int gapEnd;
+
+    GapList() {
+        elements = new Object[MIN_CAPACITY];
+        gapEnd = elements.length;
+    }
+
+    GapList(Collection<? extends E> items) {
+        elements = Arrays.copyOf(items.toArray(), Math.max(MIN_CAPACITY, items.size()), Object[].class);
+        gapStart = items.size();
+        gapEnd = elements.length;
+    }
+
+    @Override
+    public int size() {
+        return elements.length - (gapEnd - gapStart);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index, size());
+        return (E) elements[index < gapStart ? index : index + gapEnd - gapStart];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        checkIndex(index, size());
+        var position = index < gapStart ? index : index + gapEnd - gapStart;
+        var previous = (E) elements[position];
+        elements[position] = element;
+        return previous;
+    }
+
+    @Override
+    public boolean add(E element) {
+        // The tokenizer appends far more often than anything else
+        if (gapEnd == elements.length && gapStart < gapEnd) {
+            elements[gapStart++] = element;
+            modCount++;
+            return true;
+        }
+        add(size(), element);
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        checkIndex(index, size() + 1);
+        moveGap(index);
+        ensureGap(1);
+        elements[gapStart++] = element;
+        modCount++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        checkIndex(index, size());
+        moveGap(index);
+        var previous = (E) elements[gapEnd];
+        elements[gapEnd++] = null;
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> items) {
+        return addAll(size(), items);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> items) {
+        checkIndex(index, size() + 1);
+        splice(index, 0, items);
+        return !items.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(elements, null);
+        gapStart = 0;
+        gapEnd = elements.length;
+        modCount++;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return;
+        }
+        // Grow the gap from whichever side of the range it is closer to
+        if (Math.abs(gapStart - toIndex) < Math.abs(gapStart - fromIndex)) {
+            moveGap(toIndex);
+            Arrays.fill(elements, fromIndex, toIndex, null);
+            gapStart = fromIndex;
+        } else {
+            moveGap(fromIndex);
+            var removeEnd = gapEnd + (toIndex - fromIndex);
+            Arrays.fill(elements, gapEnd, removeEnd, null);
+            gapEnd = removeEnd;
+        }
+        modCount++;
+    }
+
+    /**
+     * Replace <code>remove</code> items starting at <code>start</code> with <code>items</code>.
+     */
+    void splice(int start, int remove, Collection<? extends E> items) {
+        // Copied first, since the items may be a view of this list
+        var added = items.toArray();
+        removeRange(start, Math.min(size(), start + remove));
+
+        if (added.length > 0) {
+            moveGap(start);
+            ensureGap(added.length);
+            System.arraycopy(added, 0, elements, gapStart, added.length);
+            gapStart += added.length;
+            modCount++;
+        }
+    }
+
+    /**
+     * Move the gap so that it starts at <code>index</code>.
+     */
+    private void moveGap(int index) {
+        var gapLength = gapEnd - gapStart;
+        if (index < gapStart) {
+            var count = gapStart - index;
+            System.arraycopy(elements, index, elements, gapEnd - count, count);
+            Arrays.fill(elements, index, Math.min(gapStart, index + gapLength), null);
+        } else if (index > gapStart) {
+            var count = index - gapStart;
+            System.arraycopy(elements, gapEnd, elements, gapStart, count);
+            Arrays.fill(elements, Math.max(gapEnd, index), gapEnd + count, null);
+        }
+        gapStart = index;
+        gapEnd = index + gapLength;
+    }
+
+    private void ensureGap(int required) {
+        if (gapEnd - gapStart >= required) {
+            return;
+        }
+        var size = size();
+        var capacity = Math.max(elements.length * 2, size + required);
+        var grown = new Object[capacity];
+        var tail = elements.length - gapEnd;
+        System.arraycopy(elements, 0, grown, 0, gapStart);
+        System.arraycopy(elements, gapEnd, grown, capacity - tail, tail);
+        elements = grown;
+        gapEnd = capacity - tail;
+    }
+
+    private static void checkIndex(int index, int length) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+        }
+    }
+}
@@ -27,7 +27,7 @@ public final class InitializeContent {
             this.effects = effects;
 
             contentStart = effects.attempt.hook(
-                    context.getParser().constructs.contentInitial,
+                    context.getParser().getContentInitialConstructs(),
                     this::afterContentStartConstruct,
                     this::paragraphInitial);
         }
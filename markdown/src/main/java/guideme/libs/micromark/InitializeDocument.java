@@ -243,7 +243,7 @@ public final class InitializeDocument {
                 return this::start;
             }
 
-            effects.consume(code);
+            effects.consumeInert(code, ConstructTable.EMPTY);
             return this::flowContinue;
         }
 
@@ -252,10 +252,7 @@ public final class InitializeDocument {
                 throw new IllegalStateException("expected 'childFlow' to be defined when continuing");
             }
 
-            var stream = context.sliceStream(token);
-            if (eof) {
-                stream.add(Codes.eof);
-            }
+            var stream = context.sliceStream(token, eof);
             token.previous = childToken;
             if (childToken != null)
                 childToken.next = token;
@@ -380,7 +377,7 @@ public final class InitializeDocument {
             if (childFlow == null) {
                 throw new IllegalStateException("expected 'childFlow' to be defined when closing it");
             }
-            childFlow.write(ListUtils.of(Codes.eof));
+            childFlow.write(new int[] { Codes.eof });
             childToken = null;
             childFlow = null;
             context.getContainerState().remove("_closeFlow");
@@ -390,7 +387,7 @@ public final class InitializeDocument {
     private static State tokenizeContainer(TokenizeContext context, Tokenizer.Effects effects, State ok, State nok) {
         return FactorySpace.create(
                 effects,
-                effects.attempt.hook(context.getParser().constructs.document, ok, nok),
+                effects.attempt.hook(context.getParser().getDocumentConstructs(), ok, nok),
                 Types.linePrefix,
                 context.getParser().constructs.nullDisable.contains(Types.codeIndented)
                         ? Integer.MAX_VALUE
@@ -32,12 +32,12 @@ public final class InitializeFlow {
                     this::atBlankEnding,
                     // Try to parse initial flow (essentially, only code).
                     effects.attempt.hook(
-                            context.getParser().constructs.flowInitial,
+                            context.getParser().getFlowInitialConstructs(),
                             this::afterConstruct,
                             FactorySpace.create(
                                     effects,
                                     effects.attempt.hook(
-                                            context.getParser().constructs.flow,
+                                            context.getParser().getFlowConstructs(),
                                             this::afterConstruct,
                                             effects.attempt.hook(Content.content, this::afterConstruct, null)),
                                     Types.linePrefix)));
@@ -3,8 +3,6 @@ package guideme.libs.micromark;
 import guideme.libs.micromark.symbol.Codes;
 import guideme.libs.micromark.symbol.Constants;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
 
 final class InitializeText {
     private InitializeText() {
@@ -16,12 +14,12 @@ final class InitializeText {
 
     static class TextTokenizer {
         private final TokenizeContext context;
-        private final Map<Integer, List<Construct>> constructs;
+        private final ConstructTable constructs;
         private final Tokenizer.Effects effects;
         private final State text;
 
         public TextTokenizer(TokenizeContext context,
-                Map<Integer, List<Construct>> constructs,
+                ConstructTable constructs,
                 Tokenizer.Effects effects) {
             this.context = context;
             this.constructs = constructs;
@@ -40,7 +38,7 @@ final class InitializeText {
             }
 
             effects.enter(Types.data);
-            effects.consume(code);
+            effects.consumeInert(code, constructs);
             return this::data;
         }
 
@@ -53,7 +51,7 @@ final class InitializeText {
             }
 
             // Data.
-            effects.consume(code);
+            effects.consumeInert(code, constructs);
             return this::data;
         }
 
@@ -64,15 +62,13 @@ final class InitializeText {
                 return true;
             }
 
-            var list = constructs.get(code);
+            var list = constructs.getOwn(code);
             var index = -1;
 
-            if (list != null) {
-                while (++index < list.size()) {
-                    var item = list.get(index);
-                    if (item.previous == null || item.previous.previous(context, context.getPrevious())) {
-                        return true;
-                    }
+            while (++index < list.size()) {
+                var item = list.get(index);
+                if (item.previous == null || item.previous.previous(context, context.getPrevious())) {
+                    return true;
                 }
             }
 
@@ -85,8 +81,8 @@ final class InitializeText {
         var construct = new InitialConstruct();
         construct.tokenize = (context, effects, ok, nok) -> {
             var constructs = switch (field) {
-                case "text" -> context.getParser().constructs.text;
-                case "string" -> context.getParser().constructs.string;
+                case "text" -> context.getParser().getTextConstructs();
+                case "string" -> context.getParser().getStringConstructs();
                 default -> throw new IllegalArgumentException(field);
             };
             return new TextTokenizer(context, constructs, effects)::start;
@@ -142,39 +138,24 @@ final class InitializeText {
                     events.get(eventIndex).token().type.equals(Types.lineEnding)) &&
                     events.get(eventIndex - 1).token().type.equals(Types.data)) {
                 var data = events.get(eventIndex - 1).token();
-                var chunks = context.sliceStream(data);
-                var index = chunks.size();
-                var bufferIndex = -1;
+                var codes = context.sliceStream(data);
+                var index = codes.length;
                 var size = 0;
                 boolean tabs = false;
 
-                while (index-- != 0) {
-                    var chunk = chunks.get(index);
-
-                    if (chunk instanceof String textChunk) {
-                        bufferIndex = textChunk.length();
-
-                        while (bufferIndex > 0 && textChunk.charAt(bufferIndex - 1) == Codes.space) {
-                            size++;
-                            bufferIndex--;
-                        }
+                while (index > 0) {
+                    var code = codes[index - 1];
 
-                        if (bufferIndex != 0)
-                            break;
-
-                        bufferIndex = -1;
-                    }
-                    // Number
-                    else if (Objects.equals(chunk, Codes.horizontalTab)) {
+                    if (code == Codes.space) {
+                        size++;
+                    } else if (code == Codes.horizontalTab) {
                         tabs = true;
                         size++;
-                    } else if (Objects.equals(chunk, Codes.virtualSpace)) {
-                        // Empty
-                    } else {
-                        // Replacement character, exit.
-                        index++;
+                    } else if (code != Codes.virtualSpace) {
                         break;
                     }
+
+                    index--;
                 }
 
                 if (size != 0) {
@@ -190,10 +171,7 @@ final class InitializeText {
                             data.end.line(),
                             data.end.column() - size,
                             data.end.offset() - size,
-                            data.start._index() + index,
-                            index != 0
-                                    ? bufferIndex
-                                    : data.start._bufferIndex() + bufferIndex);
+                            data.start._index() + index);
 
                     token.end = data.end;
 
@@ -20,22 +20,17 @@ class InterruptedTokenizeContext implements TokenizeContext {
     }
 
     @Override
-    public List<Object> sliceStream(Token token) {
-        return parent.sliceStream(token);
+    public int[] sliceStream(Token token, boolean eof) {
+        return parent.sliceStream(token, eof);
     }
 
     @Override
-    public List<Object> sliceStream(Point start, Point end) {
+    public int[] sliceStream(Point start, Point end) {
         return parent.sliceStream(start, end);
     }
 
     @Override
-    public List<Object> sliceChunks(List<Object> chunks, Point start, Point end) {
-        return parent.sliceChunks(chunks, start, end);
-    }
-
-    @Override
-    public List<Tokenizer.Event> write(List<Object> slice) {
+    public List<Tokenizer.Event> write(int[] slice) {
         return parent.write(slice);
     }
 
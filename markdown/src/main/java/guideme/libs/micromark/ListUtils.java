@@ -14,6 +14,10 @@ public final class ListUtils {
     }
 
     public static <T> void splice(List<T> list, int start, int remove) {
+        if (list instanceof GapList<?>) {
+            ((GapList<T>) list).splice(start, remove, Collections.emptyList());
+            return;
+        }
         var removeEnd = Math.min(list.size(), start + remove);
         var sublist = list.subList(start, removeEnd);
         sublist.clear();
@@ -23,6 +27,10 @@ public final class ListUtils {
      * This does not return the removed items, and takes `items` as an array instead of rest parameters.
      */
     public static <T> void splice(List<T> list, int start, int remove, List<T> items) {
+        if (list instanceof GapList<?>) {
+            ((GapList<T>) list).splice(start, remove, items);
+            return;
+        }
         var removeEnd = Math.min(list.size(), start + remove);
         var sublist = list.subList(start, removeEnd);
         sublist.clear();
@@ -1,8 +1,6 @@
 package guideme.libs.micromark;
 
-import guideme.libs.micromark.commonmark.Subtokenize;
 import guideme.libs.micromark.html.ParseOptions;
-import java.util.ArrayList;
 import java.util.List;
 
 public final class Micromark {
@@ -13,21 +11,7 @@ public final class Micromark {
     }
 
     public static ParseContext parse(List<Extension> extensions) {
-
-        var actualExtensions = new ArrayList<Extension>();
-        actualExtensions.add(DefaultExtension.create());
-        actualExtensions.addAll(extensions);
-
-        var constructs = Extensions.combineExtensions(actualExtensions);
-
-        var parser = new ParseContext();
-        parser.constructs = constructs;
-        parser.content = create(parser, InitializeContent.content);
-        parser.document = create(parser, InitializeDocument.document);
-        parser.flow = create(parser, InitializeFlow.flow);
-        parser.string = create(parser, InitializeText.string);
-        parser.text = create(parser, InitializeText.text);
-        return parser;
+        return CompiledSyntax.compile(extensions).createParseContext();
     }
 
     public static ParseContext.Create create(ParseContext parser, InitialConstruct initial) {
@@ -39,7 +23,7 @@ public final class Micromark {
     }
 
     public static List<Tokenizer.Event> parse(String text, ParseOptions options) {
-        return parse(options.getExtensions()).document.create().write(Preprocessor.preprocess(text, true));
+        return options.getCompiledSyntax().parse(text);
     }
 
     public static List<Tokenizer.Event> parseAndPostprocess(String text) {
@@ -47,10 +31,6 @@ public final class Micromark {
     }
 
     public static List<Tokenizer.Event> parseAndPostprocess(String text, ParseOptions options) {
-        var events = parse(text, options);
-        while (!Subtokenize.subtokenize(events)) {
-            // Empty
-        }
-        return events;
+        return options.getCompiledSyntax().parseAndPostprocess(text);
     }
 }
@@ -11,7 +11,8 @@ import org.jetbrains.annotations.Nullable;
  */
 public class ParseContext {
 
-    public Extension constructs;
+    public final Extension constructs;
+    private final CompiledSyntax syntax;
     Create content;
     Create document;
     Create flow;
@@ -38,6 +39,39 @@ public class ParseContext {
      */
     public Map<Integer, Boolean> lazy = new HashMap<>();
 
+    public ParseContext(CompiledSyntax syntax) {
+        this.syntax = syntax;
+        this.constructs = syntax.getConstructs();
+    }
+
+    public CompiledSyntax getSyntax() {
+        return syntax;
+    }
+
+    public ConstructTable getDocumentConstructs() {
+        return syntax.document;
+    }
+
+    public ConstructTable getContentInitialConstructs() {
+        return syntax.contentInitial;
+    }
+
+    public ConstructTable getFlowInitialConstructs() {
+        return syntax.flowInitial;
+    }
+
+    public ConstructTable getFlowConstructs() {
+        return syntax.flow;
+    }
+
+    public ConstructTable getStringConstructs() {
+        return syntax.string;
+    }
+
+    public ConstructTable getTextConstructs() {
+        return syntax.text;
+    }
+
     public boolean isLazyLine(int line) {
         return lazy.getOrDefault(line, false);
     }
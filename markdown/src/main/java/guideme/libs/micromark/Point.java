@@ -4,14 +4,10 @@ import com.github.bsideup.jabel.Desugar;
 import guideme.libs.unist.UnistPoint;
 
 /**
- * A location in the document (`line`/`column`/`offset`) and chunk (`_index`, `_bufferIndex`).
- * <p>
- * `_bufferIndex` is `-1` when `_index` points to a code chunk and it’s a non-negative integer when pointing to a string
- * chunk.
+ * A location in the document (`line`/`column`/`offset`) and in the codes of its tokenizer (`_index`).
  *
- * @param _index       Position in a list of chunks
- * @param _bufferIndex Position in a string chunk (or `-1` when pointing to a numeric chunk).
+ * @param _index Position in the codes written to the tokenizer.
  */
 @Desugar
-public record Point(int line, int column, int offset, int _index, int _bufferIndex) implements UnistPoint {
+public record Point(int line, int column, int offset, int _index) implements UnistPoint {
 }
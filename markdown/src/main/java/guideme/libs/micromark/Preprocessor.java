@@ -2,102 +2,70 @@ package guideme.libs.micromark;
 
 import guideme.libs.micromark.symbol.Codes;
 import guideme.libs.micromark.symbol.Constants;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.regex.Pattern;
+import java.util.Arrays;
 
 final class Preprocessor {
-    private static final Pattern SEARCH = Pattern.compile("[\0\t\n\r]");
-
     private Preprocessor() {
     }
 
-    public static List<Object> preprocess(String value, boolean end) {
-
-        int column = 1;
-        String buffer = "";
-        boolean start = true;
-        boolean atCarriageReturn = false;
-
-        List<Object> chunks = new ArrayList<>();
-        int startPosition;
-        int endPosition;
-        int code;
-
-        value = buffer + value;
-        startPosition = 0;
-        buffer = "";
-
-        if (start) {
-            if (value.length() > 0 && value.charAt(0) == Codes.byteOrderMarker) {
-                startPosition++;
-            }
-
-            start = false;
+    /**
+     * Turns the text into the codes consumed by the tokenizer in a single pass. Line endings are turned into their
+     * virtual codes, tabs are followed by virtual spaces up to the next tab stop, and NUL is replaced.
+     */
+    public static int[] preprocess(String value, boolean end) {
+        var length = value.length();
+        var codes = new int[length + 1];
+        var size = 0;
+        var column = 1;
+        var position = 0;
+
+        if (length > 0 && value.charAt(0) == Codes.byteOrderMarker) {
+            position++;
         }
 
-        var matcher = SEARCH.matcher(value);
-
-        while (startPosition < value.length()) {
-            var foundMatch = matcher.find(startPosition);
-
-            if (!foundMatch) {
-                buffer = value.substring(startPosition);
-                break;
-            }
-
-            endPosition = matcher.start();
-            code = value.charAt(endPosition);
-
-            if (code == Codes.lf &&
-                    startPosition == endPosition &&
-                    atCarriageReturn) {
-                chunks.add(Codes.carriageReturnLineFeed);
-                atCarriageReturn = false;
-            } else {
-                if (atCarriageReturn) {
-                    chunks.add(Codes.carriageReturn);
-                    atCarriageReturn = false;
-                }
+        for (; position < length; position++) {
+            int code = value.charAt(position);
 
-                if (startPosition < endPosition) {
-                    chunks.add(value.substring(startPosition, endPosition));
-                    column += endPosition - startPosition;
+            switch (code) {
+                case Codes.nul -> {
+                    codes[size++] = Codes.replacementCharacter;
+                    column++;
                 }
-
-                switch (code) {
-                    case Codes.nul -> {
-                        chunks.add(Codes.replacementCharacter);
-                        column++;
-                    }
-                    case Codes.ht -> {
-                        var next = (column + (Constants.tabSize - 1)) / Constants.tabSize * Constants.tabSize;
-                        chunks.add(Codes.horizontalTab);
-                        while (column++ < next)
-                            chunks.add(Codes.virtualSpace);
+                case Codes.ht -> {
+                    var next = (column + (Constants.tabSize - 1)) / Constants.tabSize * Constants.tabSize;
+                    // The tab and its virtual spaces take more than one code
+                    var required = size + Constants.tabSize + (length - position);
+                    if (required > codes.length) {
+                        codes = Arrays.copyOf(codes, Math.max(codes.length * 2, required));
                     }
-                    case Codes.lf -> {
-                        chunks.add(Codes.lineFeed);
-                        column = 1;
-                    }
-                    default -> {
-                        atCarriageReturn = true;
-                        column = 1;
+                    codes[size++] = Codes.horizontalTab;
+                    while (column++ < next)
+                        codes[size++] = Codes.virtualSpace;
+                }
+                case Codes.lf -> {
+                    codes[size++] = Codes.lineFeed;
+                    column = 1;
+                }
+                case Codes.cr -> {
+                    if (position + 1 < length && value.charAt(position + 1) == Codes.lf) {
+                        codes[size++] = Codes.carriageReturnLineFeed;
+                        position++;
+                    } else {
+                        codes[size++] = Codes.carriageReturn;
                     }
+                    column = 1;
+                }
+                default -> {
+                    codes[size++] = code;
+                    column++;
                 }
             }
-
-            startPosition = endPosition + 1;
         }
 
         if (end) {
-            if (atCarriageReturn)
-                chunks.add(Codes.carriageReturn);
-            if (!buffer.isEmpty())
-                chunks.add(buffer);
-            chunks.add(Codes.eof);
+            codes[size++] = Codes.eof;
         }
 
-        return chunks;
+        return size == codes.length ? codes : Arrays.copyOf(codes, size);
     }
 }
@@ -1,12 +1,10 @@
 package guideme.libs.micromark;
 
 import guideme.libs.micromark.symbol.Codes;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,7 +33,7 @@ class RootTokenizeContext implements TokenizeContext {
 
     private Tokenizer.ContainerState containerState = new Tokenizer.ContainerState();
 
-    private List<Tokenizer.Event> events = new ArrayList<>();
+    private List<Tokenizer.Event> events = new GapList<>();
 
     @SuppressWarnings("unchecked")
     @Override
@@ -74,30 +72,27 @@ class RootTokenizeContext implements TokenizeContext {
         this.tokenizer = tokenizer;
     }
 
-    /**
-     * Get the chunks that span a token.
-     */
     @Override
-    public List<Object> sliceStream(Token token) {
-        return sliceStream(token.start, token.end);
+    public int[] sliceStream(Token token, boolean eof) {
+        return tokenizer.sliceCodes(token.start, token.end, eof);
     }
 
     /**
-     * Get the chunks that span a location.
+     * Get the codes that span a location.
      */
     @Override
-    public List<Object> sliceStream(Point start, Point end) {
-        return sliceChunks(tokenizer.chunks, start, end);
+    public int[] sliceStream(Point start, Point end) {
+        return tokenizer.sliceCodes(start, end, false);
     }
 
     @Override
-    public List<Tokenizer.Event> write(List<Object> slice) {
-        tokenizer.chunks.addAll(slice);
+    public List<Tokenizer.Event> write(int[] slice) {
+        tokenizer.writeCodes(slice);
 
         tokenizer.main();
 
         // Exit if we’re not done, resolve might change stuff.
-        if (!Objects.equals(tokenizer.chunks.get(tokenizer.chunks.size() - 1), Codes.eof)) {
+        if (!tokenizer.isAtEof()) {
             return Collections.emptyList();
         }
 
@@ -112,10 +107,7 @@ class RootTokenizeContext implements TokenizeContext {
 
     @Override
     public String sliceSerialize(Point start, Point end) {
-        var t = new Token();
-        t.start = start;
-        t.end = end;
-        return sliceSerialize(t, false);
+        return tokenizer.serializeCodes(start, end, false);
     }
 
     @Override
@@ -125,12 +117,12 @@ class RootTokenizeContext implements TokenizeContext {
 
     @Override
     public String sliceSerialize(Token token, boolean expandTabs) {
-        return tokenizer.serializeChunks(sliceStream(token), expandTabs);
+        return tokenizer.serializeCodes(token.start, token.end, expandTabs);
     }
 
     @Override
     public void defineSkip(Point value) {
-        tokenizer.columnStart.put(value.line(), value.column());
+        tokenizer.defineColumnStart(value.line(), value.column());
         tokenizer.accountForPotentialSkip();
         if (Micromark.ENABLE_TRACE) {
             LOGGER.trace("position: define skip: {}", now());
@@ -30,6 +30,12 @@ public class Token {
     private Map<TokenProperty<?>, Object> tokenData;
 
     public String type;
+    /**
+     * The type {@link #typeId} was last computed for.
+     */
+    @Nullable
+    private String typeIdOf;
+    private int typeId;
     public Point start;
     public Point end;
 
@@ -70,6 +76,11 @@ public class Token {
      */
     public boolean _close;
 
+    /**
+     * The marker character of an attention sequence, so resolving attention does not need to serialize the sequence.
+     */
+    public int _marker;
+
     /**
      * A boolean used internally to figure out if a token is in the first content of a list item construct.
      */
@@ -111,8 +122,22 @@ public class Token {
         }
     }
 
+    /**
+     * The {@linkplain TokenTypes id} of {@link #type}. Cached until the type is changed.
+     */
+    public int typeId() {
+        // Types are almost always constants, so checking identity is enough to hit the cache
+        if (type != typeIdOf) {
+            typeId = TokenTypes.id(type);
+            typeIdOf = type;
+        }
+        return typeId;
+    }
+
     void copyTo(Token other) {
         other.type = type;
+        other.typeIdOf = typeIdOf;
+        other.typeId = typeId;
         other.start = start;
         other.end = end;
         other.previous = previous;
@@ -121,6 +146,7 @@ public class Token {
         other._tokenizer = _tokenizer;
         other._open = _open;
         other._close = _close;
+        other._marker = _marker;
         other._isInFirstContentOfListItem = _isInFirstContentOfListItem;
         other._container = _container;
         other._loose = _loose;
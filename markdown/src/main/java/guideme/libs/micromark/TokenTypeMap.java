@@ -0,0 +1,41 @@
+package guideme.libs.micromark;
+
+import java.util.Map;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An immutable map from token types to values, stored as an array indexed by {@link TokenTypes token type id}.
+ */
+public final class TokenTypeMap<V> {
+    private final Object[] values;
+
+    public TokenTypeMap(Map<String, ? extends V> map) {
+        var maxId = -1;
+        for (var type : map.keySet()) {
+            maxId = Math.max(maxId, TokenTypes.id(type));
+        }
+
+        values = new Object[maxId + 1];
+        for (var entry : map.entrySet()) {
+            values[TokenTypes.id(entry.getKey())] = entry.getValue();
+        }
+    }
+
+    /**
+     * The value for the type of the given token.
+     */
+    @Nullable
+    public V get(Token token) {
+        return get(token.typeId());
+    }
+
+    /**
+     * The value for the token type with the given id.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V get(int typeId) {
+        // Types that were assigned an id after this map was built can't be in it
+        return typeId < values.length ? (V) values[typeId] : null;
+    }
+}
@@ -0,0 +1,69 @@
+package guideme.libs.micromark;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Assigns dense integer ids to token types.
+ * <p>
+ * Token types stay strings (see {@link Types}), since extensions are free to invent their own. Code that dispatches on
+ * the type of every token, such as the compilers, uses the id instead (see {@link Token#typeId()} and
+ * {@link TokenTypeMap}), so it can index an array rather than hash the type. Ids are never reused and are only
+ * meaningful within one JVM.
+ * <p>
+ * Looking up the id of a known type does not lock, since it happens for tokens on all parser threads. Only assigning
+ * a new id does.
+ */
+public final class TokenTypes {
+    private static final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private static volatile String[] names = new String[256];
+    /**
+     * Written after {@link #names}, so reading it first makes all names below it visible.
+     */
+    private static volatile int count;
+
+    private TokenTypes() {
+    }
+
+    /**
+     * The id of a token type, assigning the next free one if the type has not been seen yet.
+     */
+    public static int id(String type) {
+        var id = ids.get(type);
+        return id != null ? id : assignId(type);
+    }
+
+    private static synchronized int assignId(String type) {
+        var id = ids.get(type);
+        if (id == null) {
+            id = count;
+            var names = TokenTypes.names;
+            if (id == names.length) {
+                names = Arrays.copyOf(names, id * 2);
+            }
+            names[id] = type;
+            TokenTypes.names = names;
+            count = id + 1;
+            ids.put(type, id);
+        }
+        return id;
+    }
+
+    /**
+     * The token type that has the given id.
+     */
+    public static String name(int id) {
+        if (id < 0 || id >= count) {
+            throw new IllegalArgumentException("Unknown token type id: " + id);
+        }
+        return names[id];
+    }
+
+    /**
+     * The number of ids assigned so far. All ids are below this.
+     */
+    public static int count() {
+        return count;
+    }
+}
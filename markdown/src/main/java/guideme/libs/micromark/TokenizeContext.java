@@ -1,6 +1,5 @@
 package guideme.libs.micromark;
 
-import java.util.ArrayList;
 import java.util.List;
 import org.jetbrains.annotations.Nullable;
 
@@ -15,45 +14,22 @@ public interface TokenizeContext {
     @Nullable
     Tokenizer.Event getLastEvent();
 
-    List<Object> sliceStream(Token token);
-
-    List<Object> sliceStream(Point start, Point end);
-
     /**
-     * Get the chunks from a slice of chunks in the range of a token.
+     * Get the codes that span a token.
      */
-    default List<Object> sliceChunks(List<Object> chunks, Point start, Point end) {
-        var startIndex = start._index();
-        var startBufferIndex = start._bufferIndex();
-        var endIndex = end._index();
-        var endBufferIndex = end._bufferIndex();
-        List<Object> view = new ArrayList<>();
-
-        if (startIndex == endIndex) {
-            if (endBufferIndex < 0) {
-                throw new IllegalArgumentException("expected non-negative end buffer index");
-            }
-            if (startBufferIndex < 0) {
-                throw new IllegalArgumentException("expected non-negative start buffer index");
-            }
-
-            view.add(((String) chunks.get(startIndex)).substring(startBufferIndex, endBufferIndex));
-        } else {
-            view.addAll(chunks.subList(startIndex, endIndex));
-
-            if (startBufferIndex > -1) {
-                view.set(0, ((String) view.get(0)).substring(startBufferIndex));
-            }
-
-            if (endBufferIndex > 0) {
-                view.add(((String) chunks.get(endIndex)).substring(0, endBufferIndex));
-            }
-        }
-
-        return view;
+    default int[] sliceStream(Token token) {
+        return sliceStream(token, false);
     }
 
-    List<Tokenizer.Event> write(List<Object> slice);
+    /**
+     * Get the codes that span a token. If <code>eof</code> is true, {@link guideme.libs.micromark.symbol.Codes#eof} is
+     * appended, for writing the last part of a content to another tokenizer.
+     */
+    int[] sliceStream(Token token, boolean eof);
+
+    int[] sliceStream(Point start, Point end);
+
+    List<Tokenizer.Event> write(int[] slice);
 
     String sliceSerialize(Point start, Point end);
 
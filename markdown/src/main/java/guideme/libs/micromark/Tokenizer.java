@@ -26,14 +26,29 @@ public class Tokenizer {
     private int pointColumn;
     private int pointOffset;
     private int pointIndex = 0;
-    private int pointBufferIndex = -1;
 
-    Map<Integer, Integer> columnStart = new HashMap<>();
+    /**
+     * The column each line starts at, indexed by line minus {@link #columnStartLine}. Zero if the line has no skip.
+     * <p>
+     * Tokenizers of nested content only see a few lines far into the document, so the array starts at the first line
+     * that has a skip instead of at line one.
+     */
+    private int[] columnStart = new int[0];
+    private int columnStartLine;
 
     List<Construct> resolveAllConstructs = new ArrayList<>();
 
-    final List<Object> chunks = new ArrayList<>();
-    private Stack<Token> stack = new Stack<>();
+    /**
+     * The codes written to this tokenizer so far, see {@link Preprocessor}.
+     */
+    private int[] codes = new int[0];
+    private int codesLength;
+    /**
+     * The innermost open token. The stack of open tokens is persistent, so that checkpoints can reference it without
+     * copying it.
+     */
+    @Nullable
+    private OpenToken openTokens;
     private boolean consumed = true;
 
     final TokenizeContext context;
@@ -121,18 +136,7 @@ public class Tokenizer {
                 pointOffset++;
             }
 
-            // Not in a string chunk.
-            if (pointBufferIndex < 0) {
-                pointIndex++;
-            } else {
-                pointBufferIndex++;
-
-                // At end of string chunk.
-                if (pointBufferIndex == ((String) chunks.get(pointIndex)).length()) {
-                    pointBufferIndex = -1;
-                    pointIndex++;
-                }
-            }
+            pointIndex++;
 
             // Expose the previous character.
             context.setPrevious(code);
@@ -141,6 +145,42 @@ public class Tokenizer {
             consumed = true;
         }
 
+        /**
+         * Consume the code, followed by all directly following codes that are not line endings and can't start any of
+         * the given constructs. This is the same as consuming them one by one in a state that only consumes codes
+         * until one of them could start a construct, but without calling the state for every code.
+         * <p>
+         * Codes that have not been written yet are not consumed, so the state has to handle the next code itself.
+         */
+        public void consumeInert(int code, ConstructTable constructs) {
+            consume(code);
+
+            var index = pointIndex;
+            var column = pointColumn;
+            var offset = pointOffset;
+            var last = code;
+
+            while (index < codesLength) {
+                var next = codes[index];
+                if (next == Codes.eof || CharUtil.markdownLineEnding(next) || constructs.mayStart(next)) {
+                    break;
+                }
+                if (next != Codes.virtualSpace) {
+                    column++;
+                    offset++;
+                }
+                last = next;
+                index++;
+            }
+
+            if (index != pointIndex) {
+                pointIndex = index;
+                pointColumn = column;
+                pointOffset = offset;
+                context.setPrevious(last);
+            }
+        }
+
         public Token enter(String type) {
             return enter(type, null);
         }
@@ -159,7 +199,7 @@ public class Tokenizer {
 
             context.getEvents().add(new Event(EventType.ENTER, token, context));
 
-            stack.add(token);
+            openTokens = new OpenToken(token, openTokens);
 
             return token;
         }
@@ -171,15 +211,15 @@ public class Tokenizer {
             Assert.check(type != null, "expected string type");
             Assert.check(!type.isEmpty(), "expected non-empty string");
 
-            Assert.check(!stack.isEmpty(), "cannot close w/o open tokens");
-            var token = stack.pop();
+            Assert.check(openTokens != null, "cannot close w/o open tokens");
+            var token = openTokens.token;
+            openTokens = openTokens.parent;
             token.end = now();
 
             Assert.check(type.equals(token.type), "expected exit token to match current token");
 
             Assert.check(
-                    !(token.start._index() == token.end._index() &&
-                            token.start._bufferIndex() == token.end._bufferIndex()),
+                    token.start._index() != token.end._index(),
                     "expected non-empty token (`" + type + "`)");
 
             if (Micromark.ENABLE_TRACE) {
@@ -216,8 +256,7 @@ public class Tokenizer {
                 pointLine,
                 pointColumn,
                 pointOffset,
-                pointIndex,
-                pointBufferIndex);
+                pointIndex);
     }
 
     //
@@ -225,32 +264,41 @@ public class Tokenizer {
     //
 
     /**
-     * Main loop (note that `_index` and `_bufferIndex` in `point` are modified by `consume`). Here is where we walk
-     * through the chunks, which either include strings of several characters, or numerical character Codes. The reason
-     * to do this in a loop instead of a call is so the stack can drain.
+     * Main loop (note that `_index` in `point` is modified by `consume`). Here is where we walk through the codes. The
+     * reason to do this in a loop instead of a call is so the stack can drain.
      */
     void main() {
-        int chunkIndex;
-
-        while (pointIndex < chunks.size()) {
-            var chunk = chunks.get(pointIndex);
+        while (pointIndex < codesLength) {
+            go(codes[pointIndex]);
+        }
+    }
 
-            // If we’re in a buffer chunk, loop through it.
-            if (chunk instanceof String textChunk) {
-                chunkIndex = pointIndex;
+    /**
+     * Append codes to the end of the stream.
+     */
+    void writeCodes(int[] slice) {
+        if (codesLength + slice.length > codes.length) {
+            codes = Arrays.copyOf(codes, Math.max(codes.length * 2, codesLength + slice.length));
+        }
+        System.arraycopy(slice, 0, codes, codesLength, slice.length);
+        codesLength += slice.length;
+    }
 
-                if (pointBufferIndex < 0) {
-                    pointBufferIndex = 0;
-                }
+    boolean isAtEof() {
+        return codesLength > 0 && codes[codesLength - 1] == Codes.eof;
+    }
 
-                while (pointIndex == chunkIndex &&
-                        pointBufferIndex < textChunk.length()) {
-                    go(textChunk.charAt(pointBufferIndex));
-                }
-            } else {
-                go((int) chunk);
-            }
+    /**
+     * Copy the codes between two points, optionally followed by {@link Codes#eof}.
+     */
+    int[] sliceCodes(Point start, Point end, boolean eof) {
+        var length = end._index() - start._index();
+        var result = new int[eof ? length + 1 : length];
+        System.arraycopy(codes, start._index(), result, 0, length);
+        if (eof) {
+            result[length] = Codes.eof;
         }
+        return result;
     }
 
     /**
@@ -275,15 +323,15 @@ public class Tokenizer {
     /**
      * Use results.
      */
-    void onsuccessfulconstruct(Construct construct, Info info) {
-        addResult(construct, info.from);
+    void onsuccessfulconstruct(Construct construct, Checkpoint checkpoint) {
+        addResult(construct, checkpoint.eventsLength);
     }
 
     /**
      * Discard results.
      */
-    void onsuccessfulcheck(Construct construct, Info info) {
-        info.restore().run();
+    void onsuccessfulcheck(Construct construct, Checkpoint checkpoint) {
+        checkpoint.restore();
     }
 
     public interface Hook {
@@ -294,15 +342,11 @@ public class Tokenizer {
         }
 
         default State hook(Map<Integer, List<Construct>> map, State returnState, State bogusState) {
-            return code -> {
-                List<Construct> def = code != Codes.eof ? map.getOrDefault(code, Collections.emptyList()) : Collections.emptyList();
-                List<Construct> all = code != Codes.eof ? map.getOrDefault(Codes.eof, Collections.emptyList()) : Collections.emptyList();
-                var list = new ArrayList<Construct>();
-                list.addAll(def);
-                list.addAll(all);
+            return hook(new ConstructTable(map), returnState, bogusState);
+        }
 
-                return hook(list, returnState, bogusState).step(code);
-            };
+        default State hook(ConstructTable table, State returnState, State bogusState) {
+            return code -> hook(table.get(code), returnState, bogusState).step(code);
         }
     }
 
@@ -311,11 +355,7 @@ public class Tokenizer {
      */
     @FunctionalInterface
     interface ReturnHandle {
-        void handle(Construct construct, Info info);
-    }
-
-    @Desugar
-    record Info(Runnable restore, int from) {
+        void handle(Construct construct, Checkpoint checkpoint);
     }
 
     /**
@@ -333,7 +373,7 @@ public class Tokenizer {
         private final Map<String, Object> fields;
         private int constructIndex;
         private Construct currentConstruct;
-        private Info info;
+        private Checkpoint checkpoint;
         private final State returnState;
         private final State bogusState;
         private final ReturnHandle onreturn;
@@ -363,7 +403,7 @@ public class Tokenizer {
                 // Currently doesn’t work because `inspect` in document does a check
                 // w/o a bogus, which doesn’t make sense. But it does seem to help perf
                 // by not storing.
-                info = store();
+                checkpoint = new Checkpoint();
                 currentConstruct = construct;
 
                 if (!currentConstruct.partial) {
@@ -396,14 +436,14 @@ public class Tokenizer {
                 throw new IllegalStateException("expected code");
             }
             consumed = true;
-            onreturn.handle(currentConstruct, info);
+            onreturn.handle(currentConstruct, checkpoint);
             return returnState;
         }
 
         private State nok(int code) {
             Assert.check(code == expectedCode, "expected code");
             consumed = true;
-            info.restore().run();
+            checkpoint.restore();
 
             if (++constructIndex < constructs.size()) {
                 return create(constructs.get(constructIndex));
@@ -420,11 +460,10 @@ public class Tokenizer {
         }
 
         if (construct.resolve != null) {
-            ListUtils.splice(
-                    context.getEvents(),
-                    from,
-                    context.getEvents().size() - from,
-                    construct.resolve.resolve(ListUtils.slice(context.getEvents(), from), context));
+            var events = context.getEvents();
+            // Resolvers splice as they walk through the events, so give them a gap buffer as well
+            var resolved = construct.resolve.resolve(new GapList<>(events.subList(from, events.size())), context);
+            ListUtils.splice(events, from, events.size() - from, resolved);
         }
 
         if (construct.resolveTo != null) {
@@ -439,47 +478,77 @@ public class Tokenizer {
     }
 
     /**
-     * Store state.
+     * The state of the tokenizer before a construct was attempted, to go back to it if the construct fails or was only
+     * checked. Creating a checkpoint only records positions: the events are truncated to their previous length, and the
+     * stack of open tokens is persistent.
      */
-    Info store() {
-        var startPoint = now();
-        var startPrevious = context.getPrevious();
-        var startCurrentConstruct = context.getCurrentConstruct();
-        var startEventsIndex = context.getEvents().size();
-        var startStack = new Stack<Token>();
-        startStack.addAll(stack);
-
-        return new Info(
-                () -> {
-//                    System.out.printf("       restore from %d:%d to %d:%d\n", pointLine, pointColumn,
-//                            startPoint.line(), startPoint.column());
-                    pointLine = startPoint.line();
-                    pointColumn = startPoint.column();
-                    pointOffset = startPoint.offset();
-                    pointIndex = startPoint._index();
-                    pointBufferIndex = startPoint._bufferIndex();
-                    context.setPrevious(startPrevious);
-                    context.setCurrentConstruct(startCurrentConstruct);
-                    ListUtils.setLength(context.getEvents(), startEventsIndex);
-                    stack = startStack;
-                    accountForPotentialSkip();
-                    if (Micromark.ENABLE_TRACE) {
-                        LOGGER.trace("position: restore: '{}'", now());
-                    }
-                },
-                startEventsIndex);
+    final class Checkpoint {
+        private final int line = pointLine;
+        private final int column = pointColumn;
+        private final int offset = pointOffset;
+        private final int index = pointIndex;
+        private final int previous = context.getPrevious();
+        private final Construct currentConstruct = context.getCurrentConstruct();
+        @Nullable
+        private final OpenToken openTokens = Tokenizer.this.openTokens;
+        final int eventsLength = context.getEvents().size();
+
+        void restore() {
+            pointLine = line;
+            pointColumn = column;
+            pointOffset = offset;
+            pointIndex = index;
+            context.setPrevious(previous);
+            context.setCurrentConstruct(currentConstruct);
+            ListUtils.setLength(context.getEvents(), eventsLength);
+            Tokenizer.this.openTokens = openTokens;
+            accountForPotentialSkip();
+            if (Micromark.ENABLE_TRACE) {
+                LOGGER.trace("position: restore: '{}'", now());
+            }
+        }
+    }
+
+    private static final class OpenToken {
+        final Token token;
+        @Nullable
+        final OpenToken parent;
+
+        OpenToken(Token token, @Nullable OpenToken parent) {
+            this.token = token;
+            this.parent = parent;
+        }
     }
 
     /**
      * Move the current point a bit forward in the line when it’s on a column skip.
      */
     void accountForPotentialSkip() {
-        if (columnStart.containsKey(pointLine) && pointColumn < 2) {
-            pointColumn = columnStart.get(pointLine);
-            pointOffset += columnStart.get(pointLine) - 1;
+        var index = pointLine - columnStartLine;
+        if (index >= 0 && index < columnStart.length && columnStart[index] != 0 && pointColumn < 2) {
+            pointColumn = columnStart[index];
+            pointOffset += columnStart[index] - 1;
         }
     }
 
+    void defineColumnStart(int line, int column) {
+        if (columnStart.length == 0) {
+            columnStart = new int[4];
+            columnStartLine = line;
+        } else if (line < columnStartLine) {
+            var shift = columnStartLine - line;
+            var grown = new int[columnStart.length + shift];
+            System.arraycopy(columnStart, 0, grown, shift, columnStart.length);
+            columnStart = grown;
+            columnStartLine = line;
+        }
+        var index = line - columnStartLine;
+        if (index >= columnStart.length) {
+            columnStart = Arrays.copyOf(columnStart, Math.max(index + 1, columnStart.length * 2));
+        }
+        columnStart[index] = column;
+    }
+
     public static class ContainerState extends HashMap<String, Object> {
     }
 
@@ -508,38 +577,29 @@ public class Tokenizer {
     }
 
     /**
-     * Get the string value of a slice of chunks.
+     * Get the string value of the codes between two points.
      */
-    String serializeChunks(List<Object> chunks, boolean expandTabs) {
-        var index = -1;
-        var result = new StringBuilder();
+    String serializeCodes(Point start, Point end, boolean expandTabs) {
+        var result = new StringBuilder(end._index() - start._index());
         boolean atTab = false;
 
-        while (++index < chunks.size()) {
-            var chunk = chunks.get(index);
-
-            if (chunk instanceof String textChunk) {
-                result.append(textChunk);
-            } else if (chunk instanceof Integer code) {
-                switch (code) {
-                    case Codes.carriageReturn -> result.append('\r');
-                    case Codes.lineFeed -> result.append('\n');
-                    case Codes.carriageReturnLineFeed -> result.append('\r').append('\n');
-                    case Codes.horizontalTab -> result.append(expandTabs ? ' ' : '\t');
-                    case Codes.virtualSpace -> {
-                        if (!expandTabs && atTab)
-                            continue;
-                        result.append(' ');
-                    }
-                    // Currently only replacement character.
-                    default -> result.append((char) code.intValue());
+        for (var index = start._index(); index < end._index(); index++) {
+            var code = codes[index];
+
+            switch (code) {
+                case Codes.carriageReturn -> result.append('\r');
+                case Codes.lineFeed -> result.append('\n');
+                case Codes.carriageReturnLineFeed -> result.append('\r').append('\n');
+                case Codes.horizontalTab -> result.append(expandTabs ? ' ' : '\t');
+                case Codes.virtualSpace -> {
+                    if (!expandTabs && atTab)
+                        continue;
+                    result.append(' ');
                 }
-            } else {
-                throw new IllegalStateException("Expected String or int: " + chunk);
+                default -> result.append((char) code);
             }
 
-            atTab = Objects.equals(chunk, Codes.horizontalTab);
-
+            atTab = code == Codes.horizontalTab;
         }
 
         return result.toString();
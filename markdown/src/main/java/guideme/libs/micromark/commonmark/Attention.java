@@ -20,6 +20,8 @@ public final class Attention {
     private Attention() {
     }
 
+    private static final int OPENERS_BOTTOM_KINDS = 12;
+
     public static final Construct attention;
 
     static {
@@ -31,137 +33,83 @@ public final class Attention {
 
     /**
      * Take all events and resolve attention to emphasis or strong.
+     * <p>
+     * Sequences that can open are kept on a stack of openers, so a closer only has to look at the openers that are
+     * still unmatched. Like the <code>openers_bottom</code> of the CommonMark reference implementation, we remember
+     * for every kind of closer how far down the stack a search has already failed, so failing searches don't walk the
+     * same openers again. Openers only become acceptable again when their size changes, which only happens when they
+     * are matched.
      */
     private static List<Tokenizer.Event> resolveAllAttention(List<Tokenizer.Event> events, TokenizeContext context) {
         int index = -1;
-        int open;
-        Token group;
-        Token text;
-        Token openingSequence;
-        Token closingSequence;
-        int use;
-        List<Tokenizer.Event> nextEvents;
-        int offset;
+        // Index of the exit event of each opener that is not matched yet.
+        var openers = new int[16];
+        var openersSize = 0;
+        // For each kind of closer, the height of the opener stack below which a search already failed.
+        var openersBottom = new int[OPENERS_BOTTOM_KINDS];
 
         // Walk through all events.
-        //
-        // Note: performance of this is fine on an mb of normal markdown, but it’s
-        // a bottleneck for malicious stuff.
         while (++index < events.size()) {
             var event = events.get(index);
 
+            if (event.type() != Tokenizer.EventType.ENTER || !event.token().type.equals("attentionSequence")) {
+                continue;
+            }
+
+            var closer = event.token();
+
             // Find a token that can close.
-            if (event.type() == Tokenizer.EventType.ENTER &&
-                    event.token().type.equals("attentionSequence") &&
-                    event.token()._close) {
-                open = index;
-
-                // Now walk back to find an opener.
-                while (open-- > 0) {
-                    var openEvent = events.get(open);
-
-                    // Find a token that can open the closer.
-                    if (openEvent.type() == Tokenizer.EventType.EXIT &&
-                            openEvent.token().type.equals("attentionSequence") &&
-                            openEvent.token()._open &&
-                            // If the markers are the same:
-                            context.sliceSerialize(openEvent.token()).charAt(0) == context.sliceSerialize(event.token())
-                                    .charAt(0)) {
-                        // If the opening can close or the closing can open,
-                        // and the close size *is not* a multiple of three,
-                        // but the sum of the opening and closing size *is* multiple of three,
-                        // then don’t match.
-                        if ((openEvent.token()._close || event.token()._open) &&
-                                (event.token().end.offset() - event.token().start.offset()) % 3 != 0 &&
-                                ((openEvent.token().end.offset() -
-                                        openEvent.token().start.offset() +
-                                        event.token().end.offset() -
-                                        event.token().start.offset()) %
-                                        3) == 0) {
-                            continue;
-                        }
-
-                        // Number of markers to use from the sequence.
-                        use = openEvent.token().end.offset() - openEvent.token().start.offset() > 1 &&
-                                event.token().end.offset() - event.token().start.offset() > 1
-                                        ? 2
-                                        : 1;
-
-                        var start = openEvent.token().end;
-                        var end = event.token().start;
-                        start = movePoint(start, -use);
-                        end = movePoint(end, use);
-
-                        openingSequence = new Token();
-                        openingSequence.type = use > 1 ? Types.strongSequence : Types.emphasisSequence;
-                        openingSequence.start = start;
-                        openingSequence.end = openEvent.token().end;
-
-                        closingSequence = new Token();
-                        closingSequence.type = use > 1 ? Types.strongSequence : Types.emphasisSequence;
-                        closingSequence.start = event.token().start;
-                        closingSequence.end = end;
-
-                        text = new Token();
-                        text.type = use > 1 ? Types.strongText : Types.emphasisText;
-                        text.start = openEvent.token().end;
-                        text.end = event.token().start;
-
-                        group = new Token();
-                        group.type = use > 1 ? Types.strong : Types.emphasis;
-                        group.start = openingSequence.start;
-                        group.end = closingSequence.end;
-
-                        openEvent.token().end = openingSequence.start;
-                        event.token().start = closingSequence.end;
-
-                        nextEvents = new ArrayList<>();
-
-                        // If there are more markers in the opening, add them before.
-                        if (openEvent.token().end.offset() - openEvent.token().start.offset() != 0) {
-                            nextEvents = ListUtils.push(nextEvents, ListUtils.of(
-                                    Tokenizer.Event.enter(openEvent.token(), context),
-                                    Tokenizer.Event.exit(openEvent.token(), context)));
-                        }
-
-                        // Opening.
-                        nextEvents = ListUtils.push(nextEvents, ListUtils.of(
-                                Tokenizer.Event.enter(group, context),
-                                Tokenizer.Event.enter(openingSequence, context),
-                                Tokenizer.Event.exit(openingSequence, context),
-                                Tokenizer.Event.enter(text, context)));
-
-                        // Between.
-                        nextEvents = ListUtils.push(
-                                nextEvents,
-                                Construct.resolveAll(
-                                        context.getParser().constructs.nullInsideSpan,
-                                        ListUtils.slice(events, open + 1, index),
-                                        context));
-
-                        // Closing.
-                        nextEvents = ListUtils.push(nextEvents, ListUtils.of(
-                                Tokenizer.Event.exit(text, context),
-                                Tokenizer.Event.enter(closingSequence, context),
-                                Tokenizer.Event.exit(closingSequence, context),
-                                Tokenizer.Event.exit(group, context)));
-
-                        // If there are more markers in the closing, add them after.
-                        if (event.token().end.offset() - event.token().start.offset() != 0) {
-                            offset = 2;
-                            nextEvents = ListUtils.push(nextEvents, ListUtils.of(
-                                    Tokenizer.Event.enter(event.token(), context),
-                                    Tokenizer.Event.exit(event.token(), context)));
-                        } else {
-                            offset = 0;
-                        }
-
-                        ListUtils.splice(events, open - 1, index - open + 3, nextEvents);
-
-                        index = open + nextEvents.size() - offset - 2;
-                        break;
+            if (closer._close) {
+                var kind = getOpenersBottomKind(closer);
+                var stackIndex = openersSize;
+                var matched = false;
+
+                // Now walk down the stack to find an opener.
+                while (stackIndex-- > openersBottom[kind]) {
+                    var opener = events.get(openers[stackIndex]).token();
+                    // If the markers are the same.
+                    if (opener._marker != closer._marker) {
+                        continue;
+                    }
+
+                    // If the opening can close or the closing can open,
+                    // and the close size *is not* a multiple of three,
+                    // but the sum of the opening and closing size *is* multiple of three,
+                    // then don’t match.
+                    if ((opener._close || closer._open) &&
+                            sequenceSize(closer) % 3 != 0 &&
+                            (sequenceSize(opener) + sequenceSize(closer)) % 3 == 0) {
+                        continue;
+                    }
+
+                    var open = openers[stackIndex];
+                    var offset = match(events, open, index, context);
+
+                    // Everything between the opener and the closer is now inside the match.
+                    openersSize = opener.end.offset() == opener.start.offset() ? stackIndex : stackIndex + 1;
+                    // The opener changed, so searches that failed before have to look at it again.
+                    for (var i = 0; i < openersBottom.length; i++) {
+                        openersBottom[i] = Math.min(openersBottom[i], stackIndex);
                     }
+
+                    // If the closer is not used up, the next iteration continues with its remaining markers.
+                    index = open + offset;
+                    matched = true;
+                    break;
+                }
+
+                if (matched) {
+                    continue;
                 }
+
+                openersBottom[kind] = openersSize;
+            }
+
+            if (closer._open) {
+                if (openersSize == openers.length) {
+                    openers = Arrays.copyOf(openers, openersSize * 2);
+                }
+                openers[openersSize++] = index + 1;
             }
         }
 
@@ -178,19 +126,119 @@ public final class Attention {
         return events;
     }
 
+    /**
+     * Turn the opening sequence whose exit event is at <code>open</code> and the closing sequence whose enter event is
+     * at <code>close</code> into emphasis or strong.
+     *
+     * @return The index to continue at, relative to <code>open</code>. That is the enter event of the closing sequence
+     *         if it has markers left, or the event after the match.
+     */
+    private static int match(List<Tokenizer.Event> events, int open, int close, TokenizeContext context) {
+        var openEvent = events.get(open);
+        var event = events.get(close);
+        int offset;
+
+        // Number of markers to use from the sequence.
+        var use = sequenceSize(openEvent.token()) > 1 && sequenceSize(event.token()) > 1 ? 2 : 1;
+
+        var start = openEvent.token().end;
+        var end = event.token().start;
+        start = movePoint(start, -use);
+        end = movePoint(end, use);
+
+        var openingSequence = new Token();
+        openingSequence.type = use > 1 ? Types.strongSequence : Types.emphasisSequence;
+        openingSequence.start = start;
+        openingSequence.end = openEvent.token().end;
+
+        var closingSequence = new Token();
+        closingSequence.type = use > 1 ? Types.strongSequence : Types.emphasisSequence;
+        closingSequence.start = event.token().start;
+        closingSequence.end = end;
+
+        var text = new Token();
+        text.type = use > 1 ? Types.strongText : Types.emphasisText;
+        text.start = openEvent.token().end;
+        text.end = event.token().start;
+
+        var group = new Token();
+        group.type = use > 1 ? Types.strong : Types.emphasis;
+        group.start = openingSequence.start;
+        group.end = closingSequence.end;
+
+        openEvent.token().end = openingSequence.start;
+        event.token().start = closingSequence.end;
+
+        List<Tokenizer.Event> nextEvents = new ArrayList<>();
+
+        // If there are more markers in the opening, add them before.
+        if (openEvent.token().end.offset() - openEvent.token().start.offset() != 0) {
+            nextEvents = ListUtils.push(nextEvents, ListUtils.of(
+                    Tokenizer.Event.enter(openEvent.token(), context),
+                    Tokenizer.Event.exit(openEvent.token(), context)));
+        }
+
+        // Opening.
+        nextEvents = ListUtils.push(nextEvents, ListUtils.of(
+                Tokenizer.Event.enter(group, context),
+                Tokenizer.Event.enter(openingSequence, context),
+                Tokenizer.Event.exit(openingSequence, context),
+                Tokenizer.Event.enter(text, context)));
+
+        // Between.
+        nextEvents = ListUtils.push(
+                nextEvents,
+                Construct.resolveAll(
+                        context.getParser().constructs.nullInsideSpan,
+                        ListUtils.slice(events, open + 1, close),
+                        context));
+
+        // Closing.
+        nextEvents = ListUtils.push(nextEvents, ListUtils.of(
+                Tokenizer.Event.exit(text, context),
+                Tokenizer.Event.enter(closingSequence, context),
+                Tokenizer.Event.exit(closingSequence, context),
+                Tokenizer.Event.exit(group, context)));
+
+        // If there are more markers in the closing, add them after.
+        if (event.token().end.offset() - event.token().start.offset() != 0) {
+            offset = 2;
+            nextEvents = ListUtils.push(nextEvents, ListUtils.of(
+                    Tokenizer.Event.enter(event.token(), context),
+                    Tokenizer.Event.exit(event.token(), context)));
+        } else {
+            offset = 0;
+        }
+
+        ListUtils.splice(events, open - 1, close - open + 3, nextEvents);
+
+        return nextEvents.size() - offset - 2;
+    }
+
+    private static int sequenceSize(Token token) {
+        return token.end.offset() - token.start.offset();
+    }
+
+    /**
+     * Closers can only skip openers because of their marker, their size modulo three, and whether they can open.
+     */
+    private static int getOpenersBottomKind(Token closer) {
+        var marker = closer._marker == Codes.asterisk ? 0 : 1;
+        return (marker * 3 + sequenceSize(closer) % 3) * 2 + (closer._open ? 1 : 0);
+    }
+
     /**
      * Move a point a bit.
      * <p>
-     * Note: `move` only works inside lines! It’s not possible to move past other chunks (replacement characters, tabs,
-     * or line endings).
+     * Note: `move` only works inside lines! It’s not possible to move past tabs or line endings, which don't advance the
+     * column by exactly one code.
      */
     private static Point movePoint(Point point, int offset) {
         return new Point(
                 point.line(),
                 point.column() + offset,
                 point.offset() + offset,
-                point._index(),
-                point._bufferIndex() + offset);
+                point._index() + offset);
     }
 
     static class StateMachine {
@@ -226,7 +274,8 @@ public final class Attention {
             if (code != Codes.asterisk && code != Codes.underscore) {
                 throw new IllegalStateException("expected asterisk or underscore");
             }
-            effects.enter("attentionSequence");
+            var token = effects.enter("attentionSequence");
+            token._marker = code;
             marker = code;
             return sequence(code);
         }
@@ -32,6 +32,11 @@ public final class CharacterReference {
         private int size;
         private int max;
         private RefType type;
+        /**
+         * The range of named references that start with the characters of the value so far.
+         */
+        private int namedFrom;
+        private int namedTo;
 
         public StateMachine(TokenizeContext context, Tokenizer.Effects effects, State ok, State nok) {
 
@@ -137,10 +142,9 @@ public final class CharacterReference {
          */
         private State value(int code) {
             if (code == Codes.semicolon && size != 0) {
-                var token = effects.exit(Types.characterReferenceValue);
+                effects.exit(Types.characterReferenceValue);
 
-                if (type == RefType.ALPHANUMERIC &&
-                        !NamedCharacterEntities.isNamedReference(context.sliceSerialize(token))) {
+                if (type == RefType.ALPHANUMERIC && !NamedCharacterEntities.isComplete(namedFrom, namedTo, size)) {
                     return nok.step(code);
                 }
 
@@ -151,7 +155,11 @@ public final class CharacterReference {
                 return ok;
             }
 
-            if (type.test.test(code) && size++ < max) {
+            if (type.test.test(code) && size < max) {
+                if (type == RefType.ALPHANUMERIC && !matchNamed(code)) {
+                    return nok.step(code);
+                }
+                size++;
                 effects.consume(code);
                 return this::value;
             }
@@ -159,6 +167,22 @@ public final class CharacterReference {
             return nok.step(code);
         }
 
+        /**
+         * Narrows the named references to those that continue with the given character.
+         *
+         * @return False if no named reference starts like this.
+         */
+        private boolean matchNamed(int code) {
+            if (size == 0) {
+                namedFrom = 0;
+                namedTo = NamedCharacterEntities.count();
+            }
+            var from = NamedCharacterEntities.narrowFrom(namedFrom, namedTo, size, code);
+            namedTo = NamedCharacterEntities.narrowTo(from, namedTo, size, code);
+            namedFrom = from;
+            return namedFrom < namedTo;
+        }
+
         enum RefType {
             ALPHANUMERIC(CharUtil::asciiAlphanumeric),
             NUMERIC(CharUtil::asciiDigit),
@@ -3,6 +3,7 @@ package guideme.libs.micromark.commonmark;
 import guideme.libs.micromark.Assert;
 import guideme.libs.micromark.CharUtil;
 import guideme.libs.micromark.Construct;
+import guideme.libs.micromark.ConstructTable;
 import guideme.libs.micromark.ContentType;
 import guideme.libs.micromark.State;
 import guideme.libs.micromark.Token;
@@ -82,7 +83,7 @@ public final class Content {
             }
 
             // Data.
-            effects.consume(code);
+            effects.consumeInert(code, ConstructTable.EMPTY);
             return this::data;
         }
 
@@ -144,7 +145,7 @@ public final class Content {
                 return ok.step(code);
             }
 
-            return effects.interrupt.hook(context.getParser().constructs.flow, nok, ok).step(code);
+            return effects.interrupt.hook(context.getParser().getFlowConstructs(), nok, ok).step(code);
         }
     }
 }
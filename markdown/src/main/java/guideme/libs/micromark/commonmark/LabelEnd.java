@@ -80,19 +80,7 @@ public final class LabelEnd {
         while (index-- > 0) {
             token = events.get(index).token();
 
-            if (open != null) {
-                // If we see another link, or inactive link label, we’ve been here before.
-                if (token.type.equals(Types.link) ||
-                        (token.type.equals(Types.labelLink) && token._inactive)) {
-                    break;
-                }
-
-                // Mark other link openings as inactive, as we can’t have links in
-                // links.
-                if (events.get(index).isEnter() && token.type.equals(Types.labelLink)) {
-                    token._inactive = true;
-                }
-            } else if (close != null) {
+            if (close != null) {
                 if (events.get(index).isEnter() &&
                         (token.type.equals(Types.labelImage) || token.type.equals(Types.labelLink)) &&
                         !token._balanced) {
@@ -100,8 +88,8 @@ public final class LabelEnd {
 
                     if (!token.type.equals(Types.labelLink)) {
                         offset = 2;
-                        break;
                     }
+                    break;
                 }
             } else if (token.type.equals(Types.labelEnd)) {
                 close = index;
@@ -111,6 +99,9 @@ public final class LabelEnd {
         Assert.check(open != null, "`open` is supposed to be found");
         Assert.check(close != null, "`close` is supposed to be found");
 
+        // Mark other link openings as inactive, as we can’t have links in links.
+        LabelStarts.get(context).close(context);
+
         var group = new Token();
         group.type = events.get(open).token().type.equals(Types.labelLink) ? Types.link : Types.image;
         group.start = events.get(open).token().start;
@@ -168,7 +159,6 @@ public final class LabelEnd {
         private final State ok;
         private final State nok;
 
-        int index;
         @Nullable
         Token labelStart;
         boolean defined = false;
@@ -179,17 +169,9 @@ public final class LabelEnd {
             this.effects = effects;
             this.ok = ok;
             this.nok = nok;
-            this.index = context.getEvents().size();
 
             // Find an opening.
-            while (index-- > 0) {
-                if ((context.getEvents().get(index).token().type.equals(Types.labelImage) ||
-                        context.getEvents().get(index).token().type.equals(Types.labelLink)) &&
-                        !context.getEvents().get(index).token()._balanced) {
-                    labelStart = context.getEvents().get(index).token();
-                    break;
-                }
-            }
+            labelStart = LabelStarts.get(context).peek(context);
         }
 
         /**
@@ -216,7 +198,9 @@ public final class LabelEnd {
             if (labelStart._inactive)
                 return balanced(code);
 
-            defined = context.getParser().defined.contains(
+            // Only serialize the label if there's a definition it could match.
+            var definitions = context.getParser().defined;
+            defined = !definitions.isEmpty() && definitions.contains(
                     NormalizeIdentifier.normalizeIdentifier(
                             context.sliceSerialize(labelStart.end, context.now())));
             effects.enter(Types.labelEnd);
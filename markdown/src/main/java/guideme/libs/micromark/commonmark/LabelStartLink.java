@@ -3,6 +3,7 @@ package guideme.libs.micromark.commonmark;
 import guideme.libs.micromark.Assert;
 import guideme.libs.micromark.Construct;
 import guideme.libs.micromark.State;
+import guideme.libs.micromark.Token;
 import guideme.libs.micromark.TokenizeContext;
 import guideme.libs.micromark.Tokenizer;
 import guideme.libs.micromark.Types;
@@ -25,6 +26,8 @@ public final class LabelStartLink {
         private final Tokenizer.Effects effects;
         private final State ok;
         private final State nok;
+        private Token labelStart;
+        private int labelStartIndex;
 
         public StateMachine(TokenizeContext context, Tokenizer.Effects effects, State ok, State nok) {
 
@@ -46,7 +49,8 @@ public final class LabelStartLink {
          */
         private State start(int code) {
             Assert.check(code == Codes.leftSquareBracket, "expected `[`");
-            effects.enter(Types.labelLink);
+            labelStartIndex = context.getEvents().size();
+            labelStart = effects.enter(Types.labelLink);
             effects.enter(Types.labelMarker);
             effects.consume(code);
             effects.exit(Types.labelMarker);
@@ -61,10 +65,12 @@ public final class LabelStartLink {
              */
             /* Hidden footnotes hook. */
             /* c8 ignore next 3 */
-            return code == Codes.caret &&
-                    context.getParser().constructs._hiddenFootnoteSupport
-                            ? nok.step(code)
-                            : ok.step(code);
+            if (code == Codes.caret && context.getParser().constructs._hiddenFootnoteSupport) {
+                return nok.step(code);
+            }
+
+            LabelStarts.get(context).push(labelStart, labelStartIndex);
+            return ok.step(code);
         }
     }
 }
@@ -0,0 +1,102 @@
+package guideme.libs.micromark.commonmark;
+
+import guideme.libs.micromark.ContextProperty;
+import guideme.libs.micromark.Token;
+import guideme.libs.micromark.TokenizeContext;
+import guideme.libs.micromark.Types;
+import java.util.Arrays;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The label starts (<code>[</code> and <code>![</code>) of a tokenizer that can still be closed by a label end, so that
+ * label ends don't have to search the events for them.
+ * <p>
+ * Label starts are dropped lazily: balanced ones once they are on top, and ones whose events were discarded by
+ * backtracking once they are found to no longer be at the event they were entered at.
+ */
+final class LabelStarts {
+    private static final ContextProperty<LabelStarts> PROPERTY = new ContextProperty<>();
+
+    private Token[] tokens = new Token[8];
+    private int[] eventIndices = new int[8];
+    private int size;
+
+    /**
+     * All label links below this height are inactive.
+     */
+    private int inactiveHeight;
+
+    private LabelStarts() {
+    }
+
+    static LabelStarts get(TokenizeContext context) {
+        var labelStarts = context.get(PROPERTY);
+        if (labelStarts == null) {
+            labelStarts = new LabelStarts();
+            context.set(PROPERTY, labelStarts);
+        }
+        return labelStarts;
+    }
+
+    /**
+     * Add a label start.
+     *
+     * @param eventIndex The index of the enter event of the label start.
+     */
+    void push(Token token, int eventIndex) {
+        if (size == tokens.length) {
+            tokens = Arrays.copyOf(tokens, size * 2);
+            eventIndices = Arrays.copyOf(eventIndices, size * 2);
+        }
+        tokens[size] = token;
+        eventIndices[size] = eventIndex;
+        size++;
+    }
+
+    /**
+     * The nearest label start that is not balanced.
+     */
+    @Nullable
+    Token peek(TokenizeContext context) {
+        var events = context.getEvents();
+        while (size > 0) {
+            var token = tokens[size - 1];
+            var eventIndex = eventIndices[size - 1];
+            if (!token._balanced && eventIndex < events.size() && events.get(eventIndex).token() == token) {
+                return token;
+            }
+            tokens[--size] = null;
+            inactiveHeight = Math.min(inactiveHeight, size);
+        }
+        return null;
+    }
+
+    /**
+     * Remove the nearest label start after it was turned into a link or image. If it was a link, all earlier label
+     * links become inactive, since links can't contain links.
+     */
+    void close(TokenizeContext context) {
+        var opener = peek(context);
+        if (opener == null) {
+            throw new IllegalStateException("expected a label start");
+        }
+        size--;
+        tokens[size] = null;
+
+        if (opener.type.equals(Types.labelLink)) {
+            var index = size;
+            while (index-- > inactiveHeight) {
+                var token = tokens[index];
+                if (token.type.equals(Types.labelLink)) {
+                    if (token._inactive) {
+                        break;
+                    }
+                    token._inactive = true;
+                }
+            }
+            inactiveHeight = size;
+        } else {
+            inactiveHeight = Math.min(inactiveHeight, size);
+        }
+    }
+}
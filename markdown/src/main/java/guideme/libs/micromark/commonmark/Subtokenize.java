@@ -6,7 +6,6 @@ import guideme.libs.micromark.ListUtils;
 import guideme.libs.micromark.Token;
 import guideme.libs.micromark.Tokenizer;
 import guideme.libs.micromark.Types;
-import guideme.libs.micromark.symbol.Codes;
 
 import java.util.*;
 
@@ -124,9 +123,8 @@ public final class Subtokenize {
         var tokenizer = Optional.ofNullable(token._tokenizer).orElse(
                 context.getParser().get(token.contentType).create(token.start));
         var childEvents = tokenizer.getEvents();
-        List<Jump> jumps = new ArrayList<>();
         Map<Integer, Integer> gaps = new HashMap<>();
-        List<Object> stream;
+        int[] stream;
         Token previous = null;
         int index = -1;
         Token current = token;
@@ -150,11 +148,7 @@ public final class Subtokenize {
             startPositions.add(startPosition);
 
             if (current._tokenizer == null) {
-                stream = context.sliceStream(current);
-
-                if (current.next == null) {
-                    stream.add(Codes.eof);
-                }
+                stream = context.sliceStream(current, current.next == null);
 
                 if (previous != null) {
                     tokenizer.defineSkip(current.start);
@@ -216,6 +210,7 @@ public final class Subtokenize {
         // Now splice the events from the subtokenizer into the current events,
         // moving back to front so that splice indices aren’t affected.
         index = breaks.size();
+        var jumps = new Jump[breaks.size()];
 
         while (index-- != 0) {
             List<Tokenizer.Event> slice;
@@ -227,15 +222,15 @@ public final class Subtokenize {
 
             var start = startPositions.remove(startPositions.size() - 1);
             Assert.check(start != null, "expected a start position when splicing");
-            jumps.add(0, new Jump(start, start + slice.size() - 1));
+            jumps[index] = new Jump(start, start + slice.size() - 1);
             ListUtils.splice(events, start, 2, slice);
 //            System.out.printf("Evt %d: Splicing @ %d, remove=%d, add=%s\n", eventIndex, start, 2, slice);
         }
 
         index = -1;
 
-        while (++index < jumps.size()) {
-            var jump = jumps.get(index);
+        while (++index < jumps.length) {
+            var jump = jumps[index];
             gaps.put(adjust + jump.first(), adjust + jump.second());
             adjust += jump.second() - jump.first() - 1;
         }
@@ -3,6 +3,8 @@ package guideme.libs.micromark.commonmark;
 import guideme.libs.micromark.Assert;
 import guideme.libs.micromark.CharUtil;
 import guideme.libs.micromark.Construct;
+import guideme.libs.micromark.ContextProperty;
+import guideme.libs.micromark.Point;
 import guideme.libs.micromark.State;
 import guideme.libs.micromark.TokenizeContext;
 import guideme.libs.micromark.Tokenizer;
@@ -17,6 +19,14 @@ public final class ThematicBreak {
 
     public static final Construct thematicBreak;
 
+    /**
+     * Where the last attempt failed on a character that can't be part of any thematic break. Every attempt that starts
+     * earlier on the same line has to cross it and fails too, so it can be rejected right away. Without this, lines
+     * like <code>- - - - a</code> take quadratic time, since every list item checks the rest of the line. This is the
+     * same as the <code>thematic_break_kill_pos</code> of the CommonMark reference implementation.
+     */
+    private static final ContextProperty<Point> FAILED_AT = new ContextProperty<>();
+
     static {
         thematicBreak = new Construct();
         thematicBreak.name = "thematicBreak";
@@ -46,6 +56,14 @@ public final class ThematicBreak {
                             code == Codes.underscore,
                     "expected `*`, `-`, or `_`");
 
+            var failedAt = context.get(FAILED_AT);
+            if (failedAt != null) {
+                var now = context.now();
+                if (now.line() == failedAt.line() && now.offset() < failedAt.offset()) {
+                    return nok.step(code);
+                }
+            }
+
             effects.enter(Types.thematicBreak);
             marker = code;
             return atBreak(code);
@@ -61,8 +79,12 @@ public final class ThematicBreak {
                 return FactorySpace.create(effects, this::atBreak, Types.whitespace).step(code);
             }
 
-            if (size < Constants.thematicBreakMarkerCountMin ||
-                    (code != Codes.eof && !CharUtil.markdownLineEnding(code))) {
+            if (code != Codes.eof && !CharUtil.markdownLineEnding(code)) {
+                context.set(FAILED_AT, context.now());
+                return nok.step(code);
+            }
+
+            if (size < Constants.thematicBreakMarkerCountMin) {
                 return nok.step(code);
             }
 
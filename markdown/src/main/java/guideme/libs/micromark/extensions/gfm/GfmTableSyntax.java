@@ -4,6 +4,7 @@ import guideme.libs.micromark.Assert;
 import guideme.libs.micromark.CharUtil;
 import guideme.libs.micromark.Construct;
 import guideme.libs.micromark.ContentType;
+import guideme.libs.micromark.ContextProperty;
 import guideme.libs.micromark.Extension;
 import guideme.libs.micromark.ListUtils;
 import guideme.libs.micromark.State;
@@ -16,6 +17,7 @@ import guideme.libs.micromark.factory.FactorySpace;
 import guideme.libs.micromark.symbol.Codes;
 import guideme.libs.micromark.symbol.Constants;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 public class GfmTableSyntax extends Extension {
@@ -150,11 +152,27 @@ public class GfmTableSyntax extends Extension {
     }
 
     private State tokenizeTable(TokenizeContext context, Tokenizer.Effects effects, State ok, State nok) {
+        var failedStarts = FailedStarts.get(context);
+        var startIndex = context.now()._index();
+        // Only tables checked for by the row end of another table are remembered. Those are always tokenized in the
+        // same way, while a table checked for by content interrupting sees a different interrupt state.
+        var remember = failedStarts.rowEndChecks > 0;
+
+        if (remember && failedStarts.starts.get(startIndex)) {
+            return code -> {
+                if (failedStarts.resetInterruptHack.get(startIndex)) {
+                    context.setGfmTableDynamicInterruptHack(false);
+                }
+                return nok.step(code);
+            };
+        }
+
         class StateMachine {
             final List<Align> align = new ArrayList<>();
             int tableHeaderCount = 0;
             boolean seenDelimiter;
             boolean hasDash;
+            boolean setInterruptHack;
 
             State start(int code) {
                 // @ts-expect-error Custom.
@@ -174,6 +192,16 @@ public class GfmTableSyntax extends Extension {
                 return inCellContentHead(code);
             }
 
+            State fail(int code) {
+                if (remember) {
+                    failedStarts.starts.set(startIndex);
+                    if (setInterruptHack) {
+                        failedStarts.resetInterruptHack.set(startIndex);
+                    }
+                }
+                return nok.step(code);
+            }
+
             State cellDividerHead(int code) {
                 Assert.check(code == Codes.verticalBar, "expected `|`");
                 effects.enter("tableCellDivider");
@@ -245,7 +273,7 @@ public class GfmTableSyntax extends Extension {
 
             State atRowEndHead(int code) {
                 if (code == Codes.eof) {
-                    return nok.step(code);
+                    return fail(code);
                 }
 
                 Assert.check(CharUtil.markdownLineEnding(code), "expected eol");
@@ -267,7 +295,7 @@ public class GfmTableSyntax extends Extension {
                         },
                         c -> {
                             context.setInterrupt(originalInterrupt);
-                            return nok.step(c);
+                            return fail(c);
                         }).step(code);
             }
 
@@ -306,7 +334,7 @@ public class GfmTableSyntax extends Extension {
                     return this::atDelimiterRowBreak;
                 }
 
-                return nok.step(code);
+                return fail(code);
             }
 
             State inWhitespaceDelimiter(int code) {
@@ -350,7 +378,7 @@ public class GfmTableSyntax extends Extension {
                 }
 
                 // Anything else is not ok.
-                return nok.step(code);
+                return fail(code);
             }
 
             State afterRightAlignment(int code) {
@@ -372,7 +400,7 @@ public class GfmTableSyntax extends Extension {
                     return this::atDelimiterRowBreak;
                 }
 
-                return nok.step(code);
+                return fail(code);
             }
 
             State rowEndDelimiter(int code) {
@@ -381,7 +409,7 @@ public class GfmTableSyntax extends Extension {
                 // Exit if there was no dash at all, or if the header cell count is not the
                 // delimiter cell count.
                 if (!hasDash || tableHeaderCount != align.size()) {
-                    return nok.step(code);
+                    return fail(code);
                 }
 
                 if (code == Codes.eof) {
@@ -550,15 +578,19 @@ public class GfmTableSyntax extends Extension {
                         }
 
                         context.setGfmTableDynamicInterruptHack(true);
+                        setInterruptHack = true;
+                        failedStarts.rowEndChecks++;
 
                         return effects.check.hook(
-                                context.getParser().constructs.flow,
+                                context.getParser().getFlowConstructs(),
                                 c -> {
                                     context.setGfmTableDynamicInterruptHack(false);
+                                    failedStarts.rowEndChecks--;
                                     return nok.step(c);
                                 },
                                 c -> {
                                     context.setGfmTableDynamicInterruptHack(false);
+                                    failedStarts.rowEndChecks--;
                                     return ok.step(c);
                                 }).step(code);
                     }
@@ -604,4 +636,34 @@ public class GfmTableSyntax extends Extension {
         return new StateMachine()::start;
     }
 
+    /**
+     * The positions in the codes of a flow tokenizer at which a table was checked for by the row end of another table
+     * and did not match.
+     * <p>
+     * To decide whether a row ends the table, the flow constructs are checked on the next line, which includes
+     * checking for a table starting there, which checks the line after that, and so on. Without remembering the
+     * failures, every row of a table would check all following rows again.
+     * <p>
+     * A failed table leaves the dynamic interrupt hack unset if it got as far as checking the line after its head, so
+     * that is remembered too.
+     */
+    private static final class FailedStarts {
+        private static final ContextProperty<FailedStarts> PROPERTY = new ContextProperty<>();
+
+        final BitSet starts = new BitSet();
+        final BitSet resetInterruptHack = new BitSet();
+        /**
+         * The number of row ends that are currently checking the flow constructs on their next line.
+         */
+        int rowEndChecks;
+
+        static FailedStarts get(TokenizeContext context) {
+            var failedStarts = context.get(PROPERTY);
+            if (failedStarts == null) {
+                failedStarts = new FailedStarts();
+                context.set(PROPERTY, failedStarts);
+            }
+            return failedStarts;
+        }
+    }
 }
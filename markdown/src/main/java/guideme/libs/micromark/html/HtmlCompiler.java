@@ -4,7 +4,10 @@ import guideme.libs.micromark.ListUtils;
 import guideme.libs.micromark.NamedCharacterEntities;
 import guideme.libs.micromark.NormalizeIdentifier;
 import guideme.libs.micromark.Token;
+import guideme.libs.micromark.TokenTypeMap;
+import guideme.libs.micromark.TokenTypes;
 import guideme.libs.micromark.Tokenizer;
+import guideme.libs.micromark.Types;
 
 import java.util.*;
 import java.util.regex.Pattern;
@@ -30,6 +33,12 @@ public class HtmlCompiler {
     private static final Pattern protocolHref = Pattern.compile("^(https?|ircs?|mailto|xmpp)$",
             Pattern.CASE_INSENSITIVE);
     private static final Pattern protocolSrc = Pattern.compile("^https?$", Pattern.CASE_INSENSITIVE);
+
+    private static final int LINE_ENDING = TokenTypes.id(Types.lineEnding);
+    private static final int LINE_ENDING_BLANK = TokenTypes.id(Types.lineEndingBlank);
+    private static final int LIST_ORDERED = TokenTypes.id(Types.listOrdered);
+    private static final int LIST_UNORDERED = TokenTypes.id(Types.listUnordered);
+    private static final int DEFINITION = TokenTypes.id(Types.definition);
     private final CompileOptions options;
 
     private static final class Media {
@@ -157,6 +166,12 @@ public class HtmlCompiler {
      */
     HtmlExtension handlers;
 
+    /**
+     * The enter and exit handlers of {@link #handlers}, indexed by token type id.
+     */
+    private final TokenTypeMap<HtmlExtension.Handler> enterHandlers;
+    private final TokenTypeMap<HtmlExtension.Handler> exitHandlers;
+
     /**
      * Handlers do often need to keep track of some state. That state is provided here as a key-value store (an object).
      *
@@ -217,6 +232,8 @@ public class HtmlCompiler {
             this.handlers = builder.build();
         }
 
+        enterHandlers = new TokenTypeMap<>(handlers.enter);
+        exitHandlers = new TokenTypeMap<>(handlers.exit);
         lineEndingStyle = options.getDefaultLineEnding();
     }
 
@@ -239,13 +256,15 @@ public class HtmlCompiler {
             var token = event.token();
 
             // Figure out the line ending style used in the document.
-            if (lineEndingStyle == null && (token.type.equals("lineEnding") || token.type.equals("lineEndingBlank"))) {
+            var typeId = token.typeId();
+
+            if (lineEndingStyle == null && (typeId == LINE_ENDING || typeId == LINE_ENDING_BLANK)) {
                 // @ts-expect-error Hush, it’s a line ending.
                 lineEndingStyle = event.context().sliceSerialize(token);
             }
 
             // Preprocess lists to infer whether the list is loose or not.
-            if (token.type.equals("listOrdered") || token.type.equals("listUnordered")) {
+            if (typeId == LIST_ORDERED || typeId == LIST_UNORDERED) {
                 if (event.isEnter()) {
                     listStack.add(index);
                 } else {
@@ -254,7 +273,7 @@ public class HtmlCompiler {
             }
 
             // Move definitions to the front.
-            if (token.type.equals("definition")) {
+            if (typeId == DEFINITION) {
                 if (event.isEnter()) {
                     body = ListUtils.push(body, ListUtils.slice(events, start, index));
                     start = index;
@@ -279,8 +298,8 @@ public class HtmlCompiler {
         for (var event : result) {
             var token = event.token();
 
-            var typeHandlers = event.isEnter() ? handlers.enter : handlers.exit;
-            var handler = typeHandlers.get(token.type);
+            var typeHandlers = event.isEnter() ? enterHandlers : exitHandlers;
+            var handler = typeHandlers.get(token);
             if (handler != null) {
                 context.event = event;
                 handler.handle(context, token);
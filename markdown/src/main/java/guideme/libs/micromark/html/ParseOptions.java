@@ -1,26 +1,46 @@
 package guideme.libs.micromark.html;
 
+import guideme.libs.micromark.CompiledSyntax;
 import guideme.libs.micromark.Extension;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
+import org.jetbrains.annotations.Nullable;
 
 public class ParseOptions {
     private final List<Extension> extensions = new ArrayList<>();
 
+    @Nullable
+    private volatile CompiledSyntax compiledSyntax;
+
     public List<Extension> getExtensions() {
-        return extensions;
+        return Collections.unmodifiableList(extensions);
     }
 
     public ParseOptions withSyntaxExtension(Extension extension) {
         this.extensions.add(extension);
+        this.compiledSyntax = null;
         return this;
     }
 
     public ParseOptions withSyntaxExtension(Consumer<Extension> customizer) {
         var extension = new Extension();
         customizer.accept(extension);
-        this.extensions.add(extension);
-        return this;
+        return withSyntaxExtension(extension);
+    }
+
+    /**
+     * The syntax extensions of these options combined with the default syntax. The result is reused until another
+     * extension is added, so parsing many documents with the same options only combines the extensions once. Options
+     * that are no longer modified can be shared between threads.
+     */
+    public CompiledSyntax getCompiledSyntax() {
+        var result = compiledSyntax;
+        if (result == null) {
+            result = CompiledSyntax.compile(extensions);
+            compiledSyntax = result;
+        }
+        return result;
     }
 }
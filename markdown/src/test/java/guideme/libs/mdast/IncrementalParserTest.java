@@ -0,0 +1,212 @@
+package guideme.libs.mdast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import guideme.libs.mdast.gfm.GfmTableMdastExtension;
+import guideme.libs.mdast.gfmstrikethrough.GfmStrikethroughMdastExtension;
+import guideme.libs.mdast.mdx.MdxMdastExtension;
+import guideme.libs.mdast.model.MdAstRoot;
+import guideme.libs.mdx.MdxSyntax;
+import guideme.libs.micromark.extensions.YamlFrontmatterSyntax;
+import guideme.libs.micromark.extensions.gfm.GfmTableSyntax;
+import guideme.libs.micromark.extensions.gfmstrikethrough.GfmStrikethroughSyntax;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class IncrementalParserTest extends AbstractMdAstTest {
+
+    private static final MdastOptions OPTIONS = new MdastOptions()
+            .withSyntaxExtension(MdxSyntax.INSTANCE)
+            .withSyntaxExtension(YamlFrontmatterSyntax.INSTANCE)
+            .withSyntaxExtension(GfmTableSyntax.INSTANCE)
+            .withSyntaxExtension(GfmStrikethroughSyntax.INSTANCE)
+            .withMdastExtension(MdxMdastExtension.INSTANCE)
+            .withMdastExtension(YamlFrontmatterExtension.INSTANCE)
+            .withMdastExtension(GfmTableMdastExtension.INSTANCE)
+            .withMdastExtension(GfmStrikethroughMdastExtension.INSTANCE);
+
+    private static final String[] BLOCKS = {
+            "# Heading",
+            "Heading\n===",
+            "A paragraph with *emphasis* and a [link](http://example.com).",
+            "A paragraph\nover two lines.",
+            "A [reference] and [another][ref].",
+            "[reference]: http://example.com",
+            "[ref]: <http://example.com/ref> \"Title\"",
+            "> A quote\n> over two lines",
+            "> A quote\nwith a lazy line",
+            "- an item\n- another item",
+            "1. an item\n\n2. a loose item",
+            "- an item\n\n  with a paragraph",
+            "***",
+            "---",
+            "```java\ncode\n```",
+            "```\nunclosed code",
+            "    indented code",
+            "| a | b |\n| - | - |\n| c | d |",
+            "<ItemLink id=\"minecraft:stone\" />",
+            "<Row>\n\nText in a *row*\n\n</Row>",
+            "Text with <Color color=\"#ff0000\">inline</Color>.",
+            "~~strike~~ through",
+            "Tab\tseparated",
+            "",
+    };
+
+    @Test
+    void testReusesBlocksAroundEdit() {
+        var before = """
+                # Heading
+
+                First paragraph.
+
+                Second paragraph.
+
+                Third paragraph.
+
+                Fourth paragraph.
+
+                Fifth paragraph.
+                """;
+        var after = before.replace("Third", "Changed third");
+
+        var previous = MdAst.fromMarkdown(before, OPTIONS);
+        var previousJson = toJson(previous);
+        var firstBlock = previous.children().get(1);
+        var lastBlock = previous.children().get(5);
+        var result = MdAst.reparse(previous, before, after, OPTIONS);
+
+        assertEquals(toJson(MdAst.fromMarkdown(after, OPTIONS)), toJson(result));
+        assertNotSame(previous, result);
+        assertSame(firstBlock, result.children().get(1));
+        // Moved blocks are copies, so the previous tree keeps its positions
+        assertNotSame(lastBlock, result.children().get(5));
+        assertEquals(previousJson, toJson(previous));
+    }
+
+    @Test
+    void testEditOpeningFencedCode() {
+        assertReparse("""
+                First paragraph.
+
+                Second paragraph.
+
+                Third paragraph.
+
+                Fourth paragraph.
+                """, "Second", "```\nSecond");
+    }
+
+    @Test
+    void testEditContinuingList() {
+        assertReparse("""
+                - item
+
+                Paragraph.
+
+                Another paragraph.
+                """, "Paragraph.", "- Paragraph.");
+    }
+
+    @Test
+    void testEditAddingDefinition() {
+        assertReparse("""
+                A [reference].
+
+                Paragraph.
+
+                Another paragraph.
+                """, "Paragraph.", "[reference]: http://example.com");
+    }
+
+    @Test
+    void testEditUsingDefinitionElsewhere() {
+        assertReparse("""
+                [reference]: http://example.com
+
+                Paragraph.
+
+                Another paragraph.
+                """, "Paragraph.", "A [reference].");
+    }
+
+    @Test
+    void testEditCreatingFrontmatter() {
+        assertReparse("""
+                Paragraph.
+
+                Another paragraph.
+
+                ---
+                a: b
+                ---
+
+                Last paragraph.
+                """, "Another paragraph.", "");
+    }
+
+    @Test
+    void testRandomEdits() {
+        var random = new Random(1);
+        for (var i = 0; i < 2000; i++) {
+            var before = randomDocument(random);
+            var after = randomEdit(random, before);
+            assertReparse(before, after);
+        }
+    }
+
+    private static String randomDocument(Random random) {
+        var result = new StringBuilder();
+        var blocks = random.nextInt(8);
+        for (var i = 0; i < blocks; i++) {
+            result.append(BLOCKS[random.nextInt(BLOCKS.length)]);
+            result.append(random.nextInt(4) == 0 ? "\n" : "\n\n");
+        }
+        return result.toString();
+    }
+
+    private static String randomEdit(Random random, String markdown) {
+        var start = random.nextInt(markdown.length() + 1);
+        var end = Math.min(markdown.length(), start + random.nextInt(12));
+        var replacement = switch (random.nextInt(4)) {
+            case 0 -> "";
+            case 1 -> BLOCKS[random.nextInt(BLOCKS.length)];
+            case 2 -> "\n\n" + BLOCKS[random.nextInt(BLOCKS.length)] + "\n\n";
+            default -> String.valueOf("ab *_[]()`<>-#|\n".charAt(random.nextInt(16)));
+        };
+        return markdown.substring(0, start) + replacement + markdown.substring(end);
+    }
+
+    private static void assertReparse(String before, String search, String replacement) {
+        assertReparse(before, before.replace(search, replacement));
+    }
+
+    private static void assertReparse(String before, String after) {
+        MdAstRoot previous;
+        try {
+            previous = MdAst.fromMarkdown(before, OPTIONS);
+        } catch (RuntimeException e) {
+            return;
+        }
+
+        // Not all generated input is valid, in which case both have to fail the same way
+        String expected;
+        try {
+            expected = toJson(MdAst.fromMarkdown(after, OPTIONS));
+        } catch (RuntimeException e) {
+            expected = e.toString();
+        }
+
+        var previousJson = toJson(previous);
+        String actual;
+        try {
+            actual = toJson(MdAst.reparse(previous, before, after, OPTIONS));
+        } catch (RuntimeException e) {
+            actual = e.toString();
+        }
+
+        assertEquals(expected, actual, () -> "Editing\n" + before + "\ninto\n" + after);
+        assertEquals(previousJson, toJson(previous), () -> "Editing\n" + before + "\nchanged the previous tree");
+    }
+}
@@ -0,0 +1,96 @@
+package guideme.libs.mdast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import guideme.libs.mdast.gfm.GfmTableMdastExtension;
+import guideme.libs.mdast.gfmstrikethrough.GfmStrikethroughMdastExtension;
+import guideme.libs.mdast.mdx.MdxMdastExtension;
+import guideme.libs.mdast.model.MdAstRoot;
+import guideme.libs.mdx.MdxSyntax;
+import guideme.libs.micromark.extensions.YamlFrontmatterSyntax;
+import guideme.libs.micromark.extensions.gfm.GfmTableSyntax;
+import guideme.libs.micromark.extensions.gfmstrikethrough.GfmStrikethroughSyntax;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+public class MdAstSerializerTest extends AbstractMdAstTest {
+
+    private static final MdastOptions OPTIONS = new MdastOptions()
+            .withSyntaxExtension(MdxSyntax.INSTANCE)
+            .withSyntaxExtension(YamlFrontmatterSyntax.INSTANCE)
+            .withSyntaxExtension(GfmTableSyntax.INSTANCE)
+            .withSyntaxExtension(GfmStrikethroughSyntax.INSTANCE)
+            .withMdastExtension(MdxMdastExtension.INSTANCE)
+            .withMdastExtension(YamlFrontmatterExtension.INSTANCE)
+            .withMdastExtension(GfmTableMdastExtension.INSTANCE)
+            .withMdastExtension(GfmStrikethroughMdastExtension.INSTANCE);
+
+    @Test
+    void testRoundTripCommonmark() throws IOException {
+        assertRoundTrip("""
+                # Heading
+
+                Some *emphasis*, **strong**, `code` and a [link](http://example.com "title").
+                A hard\\
+                break and an ![image](a.png) as well as [ref] and ![img ref][ref].
+
+                [ref]: http://example.com/ref "Ref"
+
+                > quote
+
+                1. first
+                2. second
+
+                - loose
+
+                - list
+
+                ***
+
+                ```java meta
+                code block
+                ```
+
+                <div>html</div>
+                """);
+    }
+
+    @Test
+    void testRoundTripExtensions() throws IOException {
+        assertRoundTrip("""
+                ---
+                navigation:
+                  title: Test
+                ---
+
+                | a | b | c |
+                |:--|:-:|--:|
+                | ~~x~~ | y | z |
+
+                <ItemLink id="minecraft:stone" {...spread} expr={1 + 2} flag />
+
+                Text with <Color color="#ff0000">inline *tag*</Color>.
+                """);
+    }
+
+    @Test
+    void testRejectsGarbage() {
+        var in = new DataInputStream(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4 }));
+        assertThrows(IOException.class, () -> MdAstSerializer.read(in));
+    }
+
+    private static void assertRoundTrip(String markdown) throws IOException {
+        var root = MdAst.fromMarkdown(markdown, OPTIONS);
+
+        var bout = new ByteArrayOutputStream();
+        MdAstSerializer.write(root, new DataOutputStream(bout));
+        MdAstRoot copy = MdAstSerializer.read(new DataInputStream(new ByteArrayInputStream(bout.toByteArray())));
+
+        assertEquals(toJson(root), toJson(copy));
+    }
+}
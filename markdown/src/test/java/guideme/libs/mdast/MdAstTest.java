@@ -1066,6 +1066,10 @@ public class MdAstTest extends AbstractMdAstTest {
         var expectedJson = Files.readString(jsonPath);
 
         assertJsonEquals(markdown, expectedJson);
+
+        // Apart from the positions, parsing without them must produce the same tree
+        var withoutPositions = toJson(markdown, new MdastOptions().withPositions(false));
+        assertEquals(toJson(removePosition(MdAst.fromMarkdown(markdown, new MdastOptions()))), withoutPositions);
     }
 
 }
@@ -0,0 +1,199 @@
+package guideme.libs.mdast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import guideme.libs.mdast.gfm.GfmTableMdastExtension;
+import guideme.libs.mdast.gfmstrikethrough.GfmStrikethroughMdastExtension;
+import guideme.libs.mdast.mdx.MdxMdastExtension;
+import guideme.libs.mdast.model.MdAstNode;
+import guideme.libs.mdast.model.MdAstParagraph;
+import guideme.libs.mdast.model.MdAstStaticPhrasingContent;
+import guideme.libs.mdx.MdxSyntax;
+import guideme.libs.micromark.extensions.YamlFrontmatterSyntax;
+import guideme.libs.micromark.extensions.gfm.Align;
+import guideme.libs.micromark.extensions.gfm.GfmTableSyntax;
+import guideme.libs.micromark.extensions.gfmstrikethrough.GfmStrikethroughSyntax;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class PackedMdAstTest extends AbstractMdAstTest {
+
+    private static final MdastOptions OPTIONS = new MdastOptions()
+            .withSyntaxExtension(MdxSyntax.INSTANCE)
+            .withSyntaxExtension(YamlFrontmatterSyntax.INSTANCE)
+            .withSyntaxExtension(GfmTableSyntax.INSTANCE)
+            .withSyntaxExtension(GfmStrikethroughSyntax.INSTANCE)
+            .withMdastExtension(MdxMdastExtension.INSTANCE)
+            .withMdastExtension(YamlFrontmatterExtension.INSTANCE)
+            .withMdastExtension(GfmTableMdastExtension.INSTANCE)
+            .withMdastExtension(GfmStrikethroughMdastExtension.INSTANCE);
+
+    private static final String COMMONMARK = """
+            # Heading
+
+            Some *emphasis*, **strong**, `code` and a [link](http://example.com "title").
+            A hard\\
+            break and an ![image](a.png) as well as [ref] and ![img ref][ref].
+
+            [ref]: http://example.com/ref "Ref"
+
+            > quote
+
+            1. first
+            2. second
+
+            - loose
+
+            - list
+
+            ***
+
+            ```java meta
+            code block
+            ```
+
+            <div>html</div>
+            """;
+
+    private static final String EXTENSIONS = """
+            ---
+            navigation:
+              title: Test
+            ---
+
+            | a | b | c |
+            |:--|:-:|--:|
+            | ~~x~~ | y | z |
+
+            <ItemLink id="minecraft:stone" {...spread} expr={1 + 2} flag />
+
+            Text with <Color color="#ff0000">inline *tag*</Color>.
+            """;
+
+    @Test
+    void testRoundTripCommonmark() {
+        assertRoundTrip(COMMONMARK);
+    }
+
+    @Test
+    void testRoundTripExtensions() {
+        assertRoundTrip(EXTENSIONS);
+    }
+
+    /**
+     * The fields of an element are grown while its attributes are added.
+     */
+    @Test
+    void testRoundTripManyElementsWithAttributes() {
+        for (var n = 1; n <= 200; n += 7) {
+            assertRoundTrip("<ItemLink id=\"minecraft:stone\" expr={1} flag />\n\n".repeat(n));
+        }
+    }
+
+    @Test
+    void testRoundTripWithoutPositions() {
+        var root = MdAst.fromMarkdown(COMMONMARK, new MdastOptions().withPositions(false));
+        var packed = PackedMdAst.pack(root);
+        assertNull(packed.position(PackedMdAst.ROOT));
+        assertEquals(toJson(root), toJson(packed.toMdAst()));
+    }
+
+    @Test
+    void testNavigation() {
+        var packed = PackedMdAst.pack(MdAst.fromMarkdown("# Title\n\nSome *text*\n", OPTIONS));
+
+        var heading = packed.firstChild(PackedMdAst.ROOT);
+        assertEquals(MdAstKind.HEADING, packed.kind(heading));
+        assertEquals(1, packed.depth(heading));
+        assertEquals(PackedMdAst.ROOT, packed.parent(heading));
+        assertEquals("Title", packed.value(packed.firstChild(heading)));
+
+        var paragraph = packed.nextSibling(heading);
+        assertEquals("paragraph", packed.type(paragraph));
+        assertEquals(PackedMdAst.NONE, packed.nextSibling(paragraph));
+
+        var emphasis = packed.nextSibling(packed.firstChild(paragraph));
+        assertEquals(MdAstKind.EMPHASIS, packed.kind(emphasis));
+        assertEquals("text", packed.value(packed.firstChild(emphasis)));
+        assertEquals(3, packed.position(emphasis).start().line());
+
+        assertThrows(IllegalArgumentException.class, () -> packed.depth(paragraph));
+        assertThrows(IllegalArgumentException.class, () -> packed.value(paragraph));
+    }
+
+    @Test
+    void testUnknownNodesAreLeftOut() {
+        var root = MdAst.fromMarkdown("first\n\nsecond\n", OPTIONS);
+        var paragraph = (MdAstParagraph) root.children().get(0);
+        paragraph.addChild(new UnknownNode());
+        assertFalse(PackedMdAst.canPack(root));
+
+        var packed = PackedMdAst.pack(root);
+        var packedParagraph = packed.firstChild(PackedMdAst.ROOT);
+        assertEquals(PackedMdAst.NONE, packed.nextSibling(packed.firstChild(packedParagraph)));
+        assertEquals(MdAstKind.PARAGRAPH, packed.kind(packed.nextSibling(packedParagraph)));
+    }
+
+    private static final class UnknownNode extends MdAstNode implements MdAstStaticPhrasingContent {
+        UnknownNode() {
+            super("unknown");
+        }
+
+        @Override
+        public void toText(StringBuilder buffer) {
+        }
+    }
+
+    @Test
+    void testFields() {
+        var packed = PackedMdAst.pack(MdAst.fromMarkdown(EXTENSIONS, OPTIONS));
+
+        var table = packed.nextSibling(packed.firstChild(PackedMdAst.ROOT));
+        assertEquals(List.of(Align.LEFT, Align.CENTER, Align.RIGHT), packed.align(table));
+
+        var element = packed.nextSibling(table);
+        assertEquals("ItemLink", packed.name(element));
+        assertEquals(4, packed.attributeCount(element));
+        var id = packed.attribute(element, 0);
+        assertEquals(element, packed.parent(id));
+        assertEquals("id", packed.name(id));
+        assertEquals("minecraft:stone", packed.stringValue(id));
+        assertNull(packed.expressionValue(id));
+        assertEquals("...spread", packed.value(packed.attribute(element, 1)));
+        assertEquals("1 + 2", packed.expressionValue(packed.attribute(element, 2)));
+        assertNull(packed.stringValue(packed.attribute(element, 3)));
+        // Attributes are not children
+        assertEquals(PackedMdAst.NONE, packed.firstChild(element));
+    }
+
+    @Test
+    void testVisit() {
+        var packed = PackedMdAst.pack(MdAst.fromMarkdown(COMMONMARK, OPTIONS));
+
+        var types = new ArrayList<String>();
+        packed.visit(PackedMdAst.ROOT, new PackedMdAst.Visitor() {
+            @Override
+            public MdAstVisitor.Result beforeNode(PackedMdAst tree, int node) {
+                types.add(tree.type(node));
+                if (tree.kind(node) == MdAstKind.PARAGRAPH) {
+                    return MdAstVisitor.Result.SKIP_CHILDREN;
+                }
+                return tree.kind(node) == MdAstKind.BLOCKQUOTE
+                        ? MdAstVisitor.Result.STOP
+                        : MdAstVisitor.Result.CONTINUE;
+            }
+        });
+
+        assertEquals(List.of("root", "heading", "text", "paragraph", "definition", "blockquote"), types);
+    }
+
+    private static void assertRoundTrip(String markdown) {
+        var root = MdAst.fromMarkdown(markdown, OPTIONS);
+        var packed = PackedMdAst.pack(root);
+        assertEquals(toJson(root), toJson(packed.toMdAst()));
+    }
+}
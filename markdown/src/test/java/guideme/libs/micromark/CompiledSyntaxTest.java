@@ -0,0 +1,39 @@
+package guideme.libs.micromark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import guideme.libs.micromark.html.CompileOptions;
+import guideme.libs.micromark.html.HtmlCompiler;
+import guideme.libs.micromark.html.ParseOptions;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class CompiledSyntaxTest {
+
+    @Test
+    public void testDocumentStateIsNotShared() {
+        var syntax = CompiledSyntax.compile(List.of());
+
+        assertEquals("<p><a href=\"b\">a</a></p>\n", html(syntax, "[a]\n\n[a]: b\n"));
+        // The definition of the previous document must not be visible
+        assertEquals("<p>[a]</p>\n", html(syntax, "[a]\n"));
+    }
+
+    @Test
+    public void testOptionsReuseCompiledSyntax() {
+        var options = new ParseOptions();
+        var syntax = options.getCompiledSyntax();
+        assertSame(syntax, options.getCompiledSyntax());
+
+        options.withSyntaxExtension(extension -> extension.nullDisable.add("codeIndented"));
+        assertNotSame(syntax, options.getCompiledSyntax());
+        assertEquals("<p>a</p>\n", new HtmlCompiler(new CompileOptions())
+                .compile(Micromark.parseAndPostprocess("    a\n", options)));
+    }
+
+    private static String html(CompiledSyntax syntax, String markdown) {
+        return new HtmlCompiler(new CompileOptions()).compile(syntax.parseAndPostprocess(markdown));
+    }
+}
@@ -0,0 +1,277 @@
+package guideme.libs.micromark;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import guideme.libs.mdast.MdAst;
+import guideme.libs.mdast.MdastOptions;
+import guideme.libs.mdast.gfm.GfmTableMdastExtension;
+import guideme.libs.mdast.gfmstrikethrough.GfmStrikethroughMdastExtension;
+import guideme.libs.mdast.mdx.MdxMdastExtension;
+import guideme.libs.mdx.MdxSyntax;
+import guideme.libs.micromark.extensions.gfm.GfmTableSyntax;
+import guideme.libs.micromark.extensions.gfmstrikethrough.GfmStrikethroughSyntax;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DynamicContainer;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+/**
+ * Checks that parsing documents built from repeating a construct takes at most O(n log n) work.
+ * <p>
+ * Each generator is parsed (into mdast, so the compiler is covered too) at n, 2n, 4n and 8n repetitions. Time is too
+ * noisy to fit reliably, so the bytes allocated by the parsing thread stand in for the work done. The growth exponent
+ * is fitted on a log-log scale and compared to the one of n log n over the same sizes.
+ * <p>
+ * Moving the elements of a list around doesn't allocate, so the CPU time of the parsing thread is fitted as well, with
+ * a larger tolerance for its noise. It is only checked once parsing the largest document takes long enough to measure.
+ */
+public class ComplexityTest {
+    private static final int BASE_SIZE = 250;
+    private static final int[] FACTORS = { 1, 2, 4, 8 };
+
+    /**
+     * How much steeper than n log n the fitted exponent may be. Quadratic growth has an exponent of 2, while n log n has
+     * one of about 1.1 for these sizes.
+     */
+    private static final double TOLERANCE = 0.2;
+
+    private static final double TIME_TOLERANCE = 0.5;
+
+    private static final int TIME_ROUNDS = 3;
+
+    /**
+     * Below this CPU time for the largest document, timer resolution and JIT activity dominate the measurement.
+     */
+    private static final long MIN_MEASURED_NANOS = 20_000_000;
+
+    private static final MdastOptions GFM = new MdastOptions()
+            .withSyntaxExtension(GfmTableSyntax.INSTANCE)
+            .withSyntaxExtension(GfmStrikethroughSyntax.INSTANCE)
+            .withMdastExtension(GfmTableMdastExtension.INSTANCE)
+            .withMdastExtension(GfmStrikethroughMdastExtension.INSTANCE);
+
+    /**
+     * MDX turns off HTML and autolinks, so it is only used for the constructs it adds.
+     */
+    private static final MdastOptions MDX = new MdastOptions()
+            .withSyntaxExtension(MdxSyntax.INSTANCE)
+            .withSyntaxExtension(GfmTableSyntax.INSTANCE)
+            .withSyntaxExtension(GfmStrikethroughSyntax.INSTANCE)
+            .withMdastExtension(MdxMdastExtension.INSTANCE)
+            .withMdastExtension(GfmTableMdastExtension.INSTANCE)
+            .withMdastExtension(GfmStrikethroughMdastExtension.INSTANCE);
+
+    /**
+     * Generators that are known to take quadratic work, which must at least not get worse.
+     * <p>
+     * Nested emphasis resolves the events between the sequences again for every level, since extensions can add
+     * resolvers for the inside of spans. micromark behaves the same.
+     * <p>
+     * Nested lists are prepared for the compiler from the inside out, and preparing a list walks through all lists
+     * nested in it, moving the events it inserts list items between. mdast-util-from-markdown behaves the same.
+     * <p>
+     * Every strikethrough sequence that can close walks back through all events before it to find an opener, past the
+     * ones that were already matched. micromark-extension-gfm-strikethrough behaves the same. This doesn't allocate, so
+     * only the CPU time shows it.
+     */
+    private static final Set<String> KNOWN_QUADRATIC = Set.of(
+            "emphasis/nested",
+            "emphasis/strikethrough",
+            "lists/nested on one line",
+            "block quotes/nested lists");
+
+    private static final Map<String, Family> FAMILIES = new LinkedHashMap<>();
+
+    static {
+        var emphasis = family("emphasis", GFM);
+        emphasis.put("strong", n -> "a**b".repeat(n));
+        emphasis.put("unclosed after opener", n -> "a**b" + "c*".repeat(n));
+        emphasis.put("openers", n -> "*a ".repeat(n));
+        emphasis.put("mixed markers", n -> "_a*".repeat(n));
+        emphasis.put("nested", n -> "*a ".repeat(n) + "b* ".repeat(n));
+        emphasis.put("strikethrough", n -> "~~a".repeat(n));
+
+        var links = family("links", GFM);
+        links.put("unclosed resources", n -> "[a](b".repeat(n));
+        links.put("unclosed destinations", n -> "[a](<b".repeat(n));
+        links.put("nested labels", n -> "[".repeat(n) + "a" + "]".repeat(n));
+        links.put("links", n -> "[a](b) ".repeat(n));
+        links.put("references", n -> "[a]: u\n".repeat(n) + "\n" + "[a] ".repeat(n));
+        links.put("undefined references", n -> "[a][b] ".repeat(n));
+        links.put("autolinks", n -> "<http://a> ".repeat(n));
+
+        var images = family("images", GFM);
+        images.put("unclosed resources", n -> "![a](b".repeat(n));
+        images.put("nested labels", n -> "![".repeat(n) + "a" + "](b)");
+        images.put("images", n -> "![a](b) ".repeat(n));
+
+        var codeSpans = family("code spans", GFM);
+        codeSpans.put("unmatched runs", n -> "``a`".repeat(n));
+        codeSpans.put("code spans", n -> "`a` ".repeat(n));
+        codeSpans.put("fenced", n -> "```\na\n```\n".repeat(n));
+
+        var html = family("html", GFM);
+        html.put("unclosed tags", n -> "\\<a ".repeat(n) + "<b c=\"d\" ".repeat(n));
+        html.put("comments", n -> "a <!-- b --> ".repeat(n));
+        html.put("flow", n -> "<!-- a -->\n".repeat(n));
+
+        var mdxJsx = family("mdx jsx", MDX);
+        mdxJsx.put("elements", n -> "<A>b</A> ".repeat(n));
+        mdxJsx.put("nested", n -> "<A>".repeat(n) + "</A>".repeat(n));
+        mdxJsx.put("attributes", n -> "<A" + " b=\"c\"".repeat(n) + " />");
+        mdxJsx.put("flow", n -> "<A />\n".repeat(n));
+
+        var mdxExpressions = family("mdx expressions", MDX);
+        mdxExpressions.put("attribute expressions", n -> "<A b={c} />".repeat(n));
+        mdxExpressions.put("nested braces", n -> "<A b={" + "{".repeat(n) + "}".repeat(n) + "} />");
+
+        var tables = family("tables", GFM);
+        tables.put("rows", n -> "| a | b |\n| - | - |\n" + "| c | d |\n".repeat(n));
+        tables.put("columns", n -> "| a ".repeat(n) + "|\n" + "| - ".repeat(n) + "|\n");
+        tables.put("no delimiter row", n -> "| a | b |\n".repeat(n));
+        tables.put("tables", n -> "| a |\n| - |\n\n".repeat(n));
+
+        var lists = family("lists", GFM);
+        lists.put("items", n -> "- a\n".repeat(n));
+        lists.put("loose items", n -> "1. a\n\n".repeat(n));
+        lists.put("nested on one line", n -> "- ".repeat(n) + "a\n");
+        lists.put("lazy lines", n -> "- a\n" + "b\n".repeat(n));
+
+        var blockQuotes = family("block quotes", GFM);
+        blockQuotes.put("lines", n -> "> a\n".repeat(n));
+        blockQuotes.put("nested", n -> ">".repeat(n) + " a\n");
+        blockQuotes.put("nested lists", n -> "> - ".repeat(n) + "a\n");
+        blockQuotes.put("lazy lines", n -> "> a\n" + "b\n".repeat(n));
+    }
+
+    private static final class Family {
+        final MdastOptions options;
+        final Map<String, IntFunction<String>> generators = new LinkedHashMap<>();
+
+        Family(MdastOptions options) {
+            this.options = options;
+        }
+    }
+
+    private static Map<String, IntFunction<String>> family(String name, MdastOptions options) {
+        var family = new Family(options);
+        FAMILIES.put(name, family);
+        return family.generators;
+    }
+
+    @TestFactory
+    public Stream<DynamicContainer> constructsScaleAtMostNLogN() {
+        return FAMILIES.entrySet().stream().map(family -> DynamicContainer.dynamicContainer(
+                family.getKey(),
+                family.getValue().generators.entrySet().stream().map(generator -> DynamicTest.dynamicTest(
+                        generator.getKey(),
+                        () -> assertScalesAtMostNLogN(
+                                family.getValue().options,
+                                generator.getValue(),
+                                KNOWN_QUADRATIC.contains(family.getKey() + "/" + generator.getKey()))))));
+    }
+
+    private static void assertScalesAtMostNLogN(MdastOptions options, IntFunction<String> generator,
+            boolean knownQuadratic) {
+        var sizes = new double[FACTORS.length];
+        var work = new double[FACTORS.length];
+        var time = new double[FACTORS.length];
+        var nLogN = new double[FACTORS.length];
+        var measured = new long[2];
+
+        // Let the JIT settle first, since compiled code allocates less than interpreted code
+        parse(options, generator.apply(BASE_SIZE * FACTORS[FACTORS.length - 1]), measured);
+        // Setting up the parser takes the same work regardless of the input
+        parse(options, "", measured);
+        var overhead = measured[0];
+
+        for (var i = 0; i < FACTORS.length; i++) {
+            var n = BASE_SIZE * FACTORS[i];
+            var markdown = generator.apply(n);
+            sizes[i] = markdown.length();
+            work[i] = Long.MAX_VALUE;
+            time[i] = Long.MAX_VALUE;
+            for (var attempt = 0; attempt < 3; attempt++) {
+                parse(options, markdown, measured);
+                work[i] = Math.min(work[i], measured[0] - overhead);
+                // Fitting it needs it to be positive
+                time[i] = Math.min(time[i], Math.max(1, measured[1]));
+            }
+            nLogN[i] = sizes[i] * Math.log(sizes[i]);
+        }
+
+        var expected = knownQuadratic ? 2 : slope(sizes, nLogN);
+        var expectedName = knownQuadratic ? "n^2" : "n log n";
+        var exponent = slope(sizes, work);
+        assertTrue(exponent <= expected + TOLERANCE, String.format(
+                "work grows with exponent %.2f, more than %s (%.2f). Allocated bytes by size: %s",
+                exponent, expectedName, expected, describe(sizes, work)));
+
+        // Other work on the machine can slow down single runs, so time is measured again before giving up
+        for (var round = 1; round < TIME_ROUNDS && time[time.length - 1] >= MIN_MEASURED_NANOS
+                && slope(sizes, time) > expected + TIME_TOLERANCE; round++) {
+            for (var i = 0; i < FACTORS.length; i++) {
+                var markdown = generator.apply(BASE_SIZE * FACTORS[i]);
+                for (var attempt = 0; attempt < 3; attempt++) {
+                    parse(options, markdown, measured);
+                    time[i] = Math.min(time[i], Math.max(1, measured[1]));
+                }
+            }
+        }
+
+        if (time[time.length - 1] >= MIN_MEASURED_NANOS) {
+            var timeExponent = slope(sizes, time);
+            assertTrue(timeExponent <= expected + TIME_TOLERANCE, String.format(
+                    "CPU time grows with exponent %.2f, more than %s (%.2f). Nanoseconds by size: %s",
+                    timeExponent, expectedName, expected, describe(sizes, time)));
+        }
+    }
+
+    /**
+     * Parses the markdown and stores the number of bytes allocated and the CPU time taken while doing so in
+     * <code>measured</code>.
+     */
+    private static void parse(MdastOptions options, String markdown, long[] measured) {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        var threadId = Thread.currentThread().getId();
+        var before = threads.getThreadAllocatedBytes(threadId);
+        var timeBefore = threads.getCurrentThreadCpuTime();
+        MdAst.fromMarkdown(markdown, options);
+        measured[1] = threads.getCurrentThreadCpuTime() - timeBefore;
+        measured[0] = threads.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    /**
+     * The slope of the least squares fit of log(y) over log(x).
+     */
+    private static double slope(double[] x, double[] y) {
+        double meanX = 0, meanY = 0;
+        for (var i = 0; i < x.length; i++) {
+            meanX += Math.log(x[i]) / x.length;
+            meanY += Math.log(y[i]) / x.length;
+        }
+        double covariance = 0, variance = 0;
+        for (var i = 0; i < x.length; i++) {
+            var dx = Math.log(x[i]) - meanX;
+            covariance += dx * (Math.log(y[i]) - meanY);
+            variance += dx * dx;
+        }
+        return covariance / variance;
+    }
+
+    private static String describe(double[] sizes, double[] values) {
+        var result = new StringBuilder();
+        for (var i = 0; i < sizes.length; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append((long) sizes[i]).append(": ").append((long) values[i]);
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,42 @@
+package guideme.libs.micromark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import guideme.libs.micromark.symbol.Codes;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class ConstructTableTest {
+
+    @Test
+    public void testMayStartOnlyForOwnConstructs() {
+        var own = new Construct();
+        var any = new Construct();
+        var table = new ConstructTable(Map.of(
+                (int) '*', List.of(own),
+                0x2603, List.of(own),
+                0x2604, List.of(),
+                Codes.eof, List.of(any)));
+
+        assertTrue(table.mayStart('*'));
+        assertTrue(table.mayStart(0x2603));
+        assertFalse(table.mayStart('a'));
+        assertFalse(table.mayStart(0x2604));
+        assertFalse(table.mayStart(Codes.lineFeed));
+        assertFalse(table.mayStart(Codes.eof));
+
+        // Constructs for any code are still tried, they just don't stop inert runs
+        assertEquals(List.of(any), table.get('a'));
+        assertEquals(List.of(own, any), table.get('*'));
+    }
+
+    @Test
+    public void testEmptyTable() {
+        for (var code = Codes.carriageReturn; code < 0x3000; code++) {
+            assertFalse(ConstructTable.EMPTY.mayStart(code));
+        }
+    }
+}
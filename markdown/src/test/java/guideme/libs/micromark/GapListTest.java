@@ -0,0 +1,72 @@
+package guideme.libs.micromark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class GapListTest {
+
+    @Test
+    public void testBehavesLikeArrayList() {
+        var random = new Random(1);
+        var expected = new ArrayList<Integer>();
+        var actual = new GapList<Integer>();
+        var next = 0;
+
+        for (var i = 0; i < 10000; i++) {
+            var size = expected.size();
+            switch (random.nextInt(6)) {
+                case 0 -> {
+                    expected.add(next);
+                    actual.add(next);
+                    next++;
+                }
+                case 1 -> {
+                    var index = random.nextInt(size + 1);
+                    expected.add(index, next);
+                    actual.add(index, next);
+                    next++;
+                }
+                case 2 -> {
+                    if (size > 0) {
+                        var index = random.nextInt(size);
+                        assertEquals(expected.remove(index), actual.remove(index));
+                    }
+                }
+                case 3 -> {
+                    var start = random.nextInt(size + 1);
+                    var remove = random.nextInt(5);
+                    var items = new ArrayList<Integer>();
+                    for (var j = random.nextInt(5); j > 0; j--) {
+                        items.add(next++);
+                    }
+                    ListUtils.splice(expected, start, remove, items);
+                    ListUtils.splice(actual, start, remove, items);
+                }
+                case 4 -> {
+                    var length = size - random.nextInt(3);
+                    ListUtils.setLength(expected, length);
+                    ListUtils.setLength(actual, length);
+                }
+                case 5 -> {
+                    if (size > 0) {
+                        var index = random.nextInt(size);
+                        assertEquals(expected.set(index, next), actual.set(index, next));
+                        next++;
+                    }
+                }
+            }
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testSpliceWithViewOfItself() {
+        var list = new GapList<>(List.of(1, 2, 3, 4));
+        ListUtils.splice(list, 0, 1, list.subList(2, 4));
+        assertEquals(List.of(3, 4, 2, 3, 4), list);
+    }
+}
@@ -0,0 +1,69 @@
+package guideme.libs.micromark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+
+public class NamedCharacterEntitiesTest {
+
+    @Test
+    void testDecode() {
+        assertEquals("&", NamedCharacterEntities.decodeNamedCharacterReference("amp"));
+        assertEquals("Æ", NamedCharacterEntities.decodeNamedCharacterReference("AElig"));
+        assertEquals("\n", NamedCharacterEntities.decodeNamedCharacterReference("NewLine"));
+        assertEquals(";", NamedCharacterEntities.decodeNamedCharacterReference("semi"));
+        // Outside the basic multilingual plane
+        assertEquals("𝔄", NamedCharacterEntities.decodeNamedCharacterReference("Afr"));
+        // Two code points
+        assertEquals("≂̸", NamedCharacterEntities.decodeNamedCharacterReference("NotEqualTilde"));
+        // The longest name
+        assertEquals("∳", NamedCharacterEntities.decodeNamedCharacterReference(
+                "CounterClockwiseContourIntegral"));
+    }
+
+    @Test
+    void testUnknownNames() {
+        assertNull(NamedCharacterEntities.decodeNamedCharacterReference(""));
+        assertNull(NamedCharacterEntities.decodeNamedCharacterReference("am"));
+        assertNull(NamedCharacterEntities.decodeNamedCharacterReference("ampx"));
+        assertNull(NamedCharacterEntities.decodeNamedCharacterReference("AMp"));
+        assertFalse(NamedCharacterEntities.isNamedReference("zzz"));
+        assertTrue(NamedCharacterEntities.isNamedReference("sup"));
+        assertTrue(NamedCharacterEntities.isNamedReference("sup3"));
+    }
+
+    @Test
+    void testNamesAreSorted() {
+        var names = new ArrayList<>(NamedCharacterEntities.getNames());
+        assertEquals(NamedCharacterEntities.count(), names.size());
+        for (var i = 1; i < names.size(); i++) {
+            assertTrue(names.get(i - 1).compareTo(names.get(i)) < 0, names.get(i));
+        }
+    }
+
+    @Test
+    void testNarrowing() {
+        var from = 0;
+        var to = NamedCharacterEntities.count();
+        var name = "nbsp";
+        for (var i = 0; i < name.length(); i++) {
+            var code = name.charAt(i);
+            from = NamedCharacterEntities.narrowFrom(from, to, i, code);
+            to = NamedCharacterEntities.narrowTo(from, to, i, code);
+            assertTrue(from < to);
+            // Names starting with "nb" are "nbsp", "nbump" and "nbumpe"
+            assertEquals(i >= 2, to - from == 1);
+        }
+        assertTrue(NamedCharacterEntities.isComplete(from, to, name.length()));
+        assertFalse(NamedCharacterEntities.isComplete(from, to, name.length() - 1));
+
+        from = NamedCharacterEntities.narrowFrom(from, to, name.length(), 'x');
+        to = NamedCharacterEntities.narrowTo(from, to, name.length(), 'x');
+        assertEquals(from, to);
+        assertFalse(NamedCharacterEntities.isComplete(from, to, name.length() + 1));
+    }
+}
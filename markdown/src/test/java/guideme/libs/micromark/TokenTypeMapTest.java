@@ -0,0 +1,78 @@
+package guideme.libs.micromark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+public class TokenTypeMapTest {
+
+    @Test
+    public void testLookupByToken() {
+        var map = new TokenTypeMap<>(Map.of(Types.data, "data", Types.strong, "strong"));
+
+        var token = new Token();
+        token.type = Types.data;
+        assertEquals("data", map.get(token));
+
+        // Changing the type must not return the cached id of the old type
+        token.type = Types.strong;
+        assertEquals("strong", map.get(token));
+
+        token.type = Types.emphasis;
+        assertNull(map.get(token));
+    }
+
+    @Test
+    public void testTypesRegisteredLater() {
+        var map = new TokenTypeMap<>(Map.of(Types.data, "data"));
+
+        var token = new Token();
+        token.type = "tokenTypeMapTestUnknown";
+        assertNull(map.get(token));
+        assertEquals("tokenTypeMapTestUnknown", TokenTypes.name(token.typeId()));
+    }
+
+    @Test
+    public void testIdsAreStable() {
+        var id = TokenTypes.id(Types.paragraph);
+        assertEquals(id, TokenTypes.id(new String(Types.paragraph)));
+        assertNotEquals(id, TokenTypes.id(Types.content));
+    }
+
+    @Test
+    public void testConcurrentAssignment() throws Exception {
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var tasks = new ArrayList<Callable<int[]>>();
+            for (var t = 0; t < 4; t++) {
+                tasks.add(() -> {
+                    var ids = new int[500];
+                    for (var i = 0; i < ids.length; i++) {
+                        ids[i] = TokenTypes.id("tokenTypeMapTestConcurrent" + i);
+                        assertEquals("tokenTypeMapTestConcurrent" + i, TokenTypes.name(ids[i]));
+                    }
+                    return ids;
+                });
+            }
+
+            var results = new ArrayList<int[]>();
+            for (var future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            // Every thread must have gotten the same id for the same type
+            for (var ids : results) {
+                for (var i = 0; i < ids.length; i++) {
+                    assertEquals(results.get(0)[i], ids[i]);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
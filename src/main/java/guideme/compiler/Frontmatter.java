@@ -1,5 +1,6 @@
 package guideme.compiler;
 
+import java.util.Collections;
 import java.util.Map;
 
 import net.minecraft.resources.ResourceLocation;
@@ -11,11 +12,16 @@ import org.yaml.snakeyaml.constructor.SafeConstructor;
 
 public record Frontmatter(@Nullable FrontmatterNavigation navigationEntry, Map<String, Object> additionalProperties) {
 
-    public static Frontmatter parse(ResourceLocation pageId, String yamlText) {
-        var yaml = new Yaml(new SafeConstructor(new LoaderOptions()));
+    /**
+     * Creating a loader is comparatively expensive and they are not thread-safe, while pages are parsed in parallel.
+     */
+    private static final ThreadLocal<Yaml> YAML = ThreadLocal
+        .withInitial(() -> new Yaml(new SafeConstructor(new LoaderOptions())));
 
+    public static Frontmatter parse(ResourceLocation pageId, String yamlText) {
         FrontmatterNavigation navigation = null;
-        Map<String, Object> data = yaml.load(yamlText);
+        Map<String, Object> data = YAML.get()
+            .load(yamlText);
         var navigationObj = data.remove("navigation");
         if (navigationObj != null) {
             if (!(navigationObj instanceof Map<?, ?>navigationMap)) {
@@ -47,7 +53,8 @@ public record Frontmatter(@Nullable FrontmatterNavigation navigationEntry, Map<S
             navigation = new FrontmatterNavigation(title, parentId, position, iconId, iconComponents);
         }
 
-        return new Frontmatter(navigation, Map.copyOf(data));
+        // Keys without a value are null in YAML, which Map.copyOf would reject
+        return new Frontmatter(navigation, Collections.unmodifiableMap(data));
     }
 
     @Nullable
@@ -0,0 +1,102 @@
+package guideme.compiler;
+
+import java.util.Map;
+
+import net.minecraft.resources.ResourceLocation;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Extracts the YAML frontmatter of a page without parsing the rest of its Markdown. Navigation and indices only need
+ * the frontmatter, so this is all that has to be done for the pages of a guide when it is loaded.
+ * <p>
+ * The frontmatter is recognized the same way the Markdown parser recognizes it: the page has to start with a
+ * <code>---</code> fence on its own line, and the frontmatter ends at the next such fence. Trailing whitespace after
+ * the fences is allowed.
+ */
+public final class FrontmatterScanner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FrontmatterScanner.class);
+
+    private static final String FENCE = "---";
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private FrontmatterScanner() {}
+
+    /**
+     * Reads the frontmatter of a page. If the page has no frontmatter or it is invalid, an empty frontmatter is
+     * returned.
+     *
+     * @param source The page source with normalized line endings.
+     */
+    public static Frontmatter scan(ResourceLocation pageId, String source) {
+        var yamlText = findYaml(source);
+        if (yamlText != null) {
+            try {
+                return Frontmatter.parse(pageId, yamlText);
+            } catch (Exception e) {
+                LOG.error("Failed to parse frontmatter for page {}", pageId, e);
+            }
+        }
+        return new Frontmatter(null, Map.of());
+    }
+
+    /**
+     * Finds the YAML text between the frontmatter fences at the start of the page.
+     *
+     * @param source The page source with normalized line endings.
+     * @return null if the page does not start with frontmatter.
+     */
+    @Nullable
+    public static String findYaml(String source) {
+        var start = !source.isEmpty() && source.charAt(0) == BYTE_ORDER_MARK ? 1 : 0;
+
+        var openingFenceEnd = matchFence(source, start);
+        // The opening fence has to be followed by a line ending
+        if (openingFenceEnd == -1 || openingFenceEnd == source.length()) {
+            return null;
+        }
+
+        var contentStart = openingFenceEnd + 1;
+        var lineStart = contentStart;
+        while (lineStart < source.length()) {
+            var closingFenceEnd = matchFence(source, lineStart);
+            if (closingFenceEnd != -1) {
+                // Exclude the line ending before the closing fence
+                return source.substring(contentStart, Math.max(contentStart, lineStart - 1));
+            }
+
+            var lineEnd = source.indexOf('\n', lineStart);
+            if (lineEnd == -1) {
+                break;
+            }
+            lineStart = lineEnd + 1;
+        }
+
+        return null; // Without a closing fence, it's not frontmatter
+    }
+
+    /**
+     * Checks if a fence line starts at the given offset.
+     *
+     * @return The offset of the line ending or end of input following the fence, or -1 if there is no fence.
+     */
+    private static int matchFence(String source, int offset) {
+        if (!source.startsWith(FENCE, offset)) {
+            return -1;
+        }
+
+        var pos = offset + FENCE.length();
+        while (pos < source.length() && (source.charAt(pos) == ' ' || source.charAt(pos) == '\t')) {
+            pos++;
+        }
+
+        if (pos < source.length() && source.charAt(pos) != '\n') {
+            return -1;
+        }
+        return pos;
+    }
+}
@@ -10,6 +10,9 @@ import guideme.libs.unist.UnistNode;
 @ApiStatus.NonExtendable
 public interface IndexingSink {
 
+    /**
+     * @param parent The node the text belongs to. It may be a view that is only valid during this call.
+     */
     void appendText(UnistNode parent, String text);
 
     void appendBreak();
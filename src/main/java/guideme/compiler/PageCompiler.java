@@ -11,6 +11,12 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 
 import net.minecraft.ResourceLocationException;
 import net.minecraft.resources.ResourceLocation;
@@ -96,25 +102,52 @@ public final class PageCompiler {
      */
     private static final int DEFAULT_ELEMENT_SPACING = 5;
 
+    /**
+     * The options are shared by all pages, so the syntax extensions are only combined once.
+     */
+    private static final MdastOptions PARSE_OPTIONS = createParseOptions(true);
+
+    private static final MdastOptions PARSE_OPTIONS_WITHOUT_POSITIONS = createParseOptions(false);
+
     private final PageCollection pages;
     private final ExtensionCollection extensions;
     private final String sourcePack;
     private final ResourceLocation pageId;
     private final String pageContent;
+    @Nullable
+    private final Executor mainThreadExecutor;
+    private final BooleanSupplier cancelled;
 
     private final Map<String, TagCompiler> tagCompilers = new HashMap<>();
 
+    // Set while a tag compiler is being run on the main thread on behalf of a background compilation
+    private boolean runningOnMainThread;
+
     // Data associated with the current page being compiled, this is used by
     // compilers to communicate with each other within the current page.
     private final Map<State<?>, Object> compilerState = new IdentityHashMap<>();
 
     public PageCompiler(PageCollection pages, ExtensionCollection extensions, String sourcePack,
         ResourceLocation pageId, String pageContent) {
+        this(pages, extensions, sourcePack, pageId, pageContent, null, () -> false);
+    }
+
+    /**
+     * @param mainThreadExecutor If not null, the page is being compiled on a background thread and tag compilers that
+     *                           are not {@link TagCompiler#isThreadSafe() thread-safe} are run using this executor.
+     * @param cancelled          Checked before each tag compiler is run. Once it returns true, compilation stops with a
+     *                           {@link CancellationException}.
+     */
+    public PageCompiler(PageCollection pages, ExtensionCollection extensions, String sourcePack,
+        ResourceLocation pageId, String pageContent, @Nullable Executor mainThreadExecutor,
+        BooleanSupplier cancelled) {
         this.pages = pages;
         this.extensions = extensions;
         this.sourcePack = sourcePack;
         this.pageId = pageId;
         this.pageContent = pageContent;
+        this.mainThreadExecutor = mainThreadExecutor;
+        this.cancelled = cancelled;
 
         // Index available tag-compilers
         for (var tagCompiler : extensions.get(TagCompiler.EXTENSION_POINT)) {
@@ -124,6 +157,18 @@ public final class PageCompiler {
         }
     }
 
+    private static MdastOptions createParseOptions(boolean positions) {
+        return new MdastOptions().withSyntaxExtension(MdxSyntax.INSTANCE)
+            .withSyntaxExtension(YamlFrontmatterSyntax.INSTANCE)
+            .withSyntaxExtension(GfmTableSyntax.INSTANCE)
+            .withSyntaxExtension(GfmStrikethroughSyntax.INSTANCE)
+            .withMdastExtension(MdxMdastExtension.INSTANCE)
+            .withMdastExtension(YamlFrontmatterExtension.INSTANCE)
+            .withMdastExtension(GfmTableMdastExtension.INSTANCE)
+            .withMdastExtension(GfmStrikethroughMdastExtension.INSTANCE)
+            .withPositions(positions);
+    }
+
     @Deprecated(forRemoval = true)
     public static ParsedGuidePage parse(String sourcePack, ResourceLocation id, InputStream in) throws IOException {
         return parse(sourcePack, "en_us", id, in);
@@ -141,21 +186,120 @@ public final class PageCompiler {
     }
 
     public static ParsedGuidePage parse(String sourcePack, String language, ResourceLocation id, String pageContent) {
-        // Normalize line ending
-        pageContent = pageContent.replaceAll("\\r\\n?", "\n");
+        pageContent = normalizeLineEndings(pageContent);
 
-        var options = new MdastOptions().withSyntaxExtension(MdxSyntax.INSTANCE)
-            .withSyntaxExtension(YamlFrontmatterSyntax.INSTANCE)
-            .withSyntaxExtension(GfmTableSyntax.INSTANCE)
-            .withSyntaxExtension(GfmStrikethroughSyntax.INSTANCE)
-            .withMdastExtension(MdxMdastExtension.INSTANCE)
-            .withMdastExtension(YamlFrontmatterExtension.INSTANCE)
-            .withMdastExtension(GfmTableMdastExtension.INSTANCE)
-            .withMdastExtension(GfmStrikethroughMdastExtension.INSTANCE);
+        var astRoot = parseAst(sourcePack, language, id, pageContent);
+
+        // Find front-matter
+        var frontmatter = parseFrontmatter(id, astRoot);
+
+        return new ParsedGuidePage(sourcePack, id, pageContent, astRoot, frontmatter, language);
+    }
+
+    /**
+     * Parses a new version of a page. If the syntax tree of the previous version is still in memory, only the blocks
+     * around the changed text are parsed again and the rest of the tree is reused. The previous page is left as it was.
+     */
+    public static ParsedGuidePage reparse(ParsedGuidePage previous, String pageContent) {
+        var previousRoot = previous.getLoadedAstRoot();
+        if (previousRoot == null) {
+            return parse(previous.sourcePack, previous.language, previous.id, pageContent);
+        }
+
+        var source = normalizeLineEndings(pageContent);
+
+        var astRoot = parseAst(
+            previous.sourcePack,
+            previous.language,
+            previous.id,
+            () -> MdAst.reparse(previousRoot, previous.source, source, PARSE_OPTIONS));
+
+        var frontmatter = parseFrontmatter(previous.id, astRoot);
+
+        return new ParsedGuidePage(previous.sourcePack, previous.id, source, astRoot, frontmatter, previous.language);
+    }
+
+    /**
+     * Reads only the frontmatter of a page and parses the Markdown once its syntax tree is needed. The tree is only
+     * softly referenced afterward. This is used for the pages of guides, most of which are never opened.
+     */
+    public static ParsedGuidePage parseLazily(String sourcePack, String language, ResourceLocation id,
+        String pageContent) {
+        return parseLazily(sourcePack, language, id, pageContent, true);
+    }
 
+    /**
+     * @param positions Whether the syntax tree keeps the source positions of its nodes. Without them, error messages
+     *                  can't show where in the page the error is.
+     */
+    public static ParsedGuidePage parseLazily(String sourcePack, String language, ResourceLocation id,
+        String pageContent, boolean positions) {
+        var source = normalizeLineEndings(pageContent);
+
+        return new ParsedGuidePage(
+            sourcePack,
+            id,
+            source,
+            () -> parseAst(sourcePack, language, id, source, positions),
+            FrontmatterScanner.scan(id, source),
+            language);
+    }
+
+    /**
+     * Converts CRLF and CR line endings to LF. Most pages already use LF, in which case the source is returned as-is
+     * without copying it.
+     */
+    public static String normalizeLineEndings(String source) {
+        var index = source.indexOf('\r');
+        if (index == -1) {
+            return source;
+        }
+
+        var result = new StringBuilder(source.length());
+        result.append(source, 0, index);
+        for (; index < source.length(); index++) {
+            var ch = source.charAt(index);
+            if (ch == '\r') {
+                result.append('\n');
+                if (index + 1 < source.length() && source.charAt(index + 1) == '\n') {
+                    index++;
+                }
+            } else {
+                result.append(ch);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Parses the Markdown of a page. If it can't be parsed, a page describing the error is returned instead.
+     *
+     * @param pageContent The page source with normalized line endings.
+     */
+    public static MdAstRoot parseAst(String sourcePack, String language, ResourceLocation id, String pageContent) {
+        return parseAst(sourcePack, language, id, pageContent, true);
+    }
+
+    /**
+     * Parses the Markdown of a page. If it can't be parsed, a page describing the error is returned instead.
+     *
+     * @param pageContent The page source with normalized line endings.
+     * @param positions   Whether the syntax tree keeps the source positions of its nodes.
+     */
+    public static MdAstRoot parseAst(String sourcePack, String language, ResourceLocation id, String pageContent,
+        boolean positions) {
+        return parseAst(
+            sourcePack,
+            language,
+            id,
+            () -> MdAst.fromMarkdown(pageContent, positions ? PARSE_OPTIONS : PARSE_OPTIONS_WITHOUT_POSITIONS));
+    }
+
+    private static MdAstRoot parseAst(String sourcePack, String language, ResourceLocation id,
+        Supplier<MdAstRoot> parser) {
         MdAstRoot astRoot;
         try {
-            astRoot = MdAst.fromMarkdown(pageContent, options);
+            astRoot = parser.get();
         } catch (ParseException e) {
             var position = "";
             if (e.getFrom() != null) {
@@ -175,11 +319,7 @@ public final class PageCompiler {
             LOG.error("{}", errorMessage, e);
             astRoot = buildErrorPage(errorMessage + ": \n" + e);
         }
-
-        // Find front-matter
-        var frontmatter = parseFrontmatter(id, astRoot);
-
-        return new ParsedGuidePage(sourcePack, id, pageContent, astRoot, frontmatter, language);
+        return astRoot;
     }
 
     private static MdAstRoot buildErrorPage(String errorText) {
@@ -204,9 +344,28 @@ public final class PageCompiler {
     }
 
     public static GuidePage compile(PageCollection pages, ExtensionCollection extensions, ParsedGuidePage parsedPage) {
+        return compile(pages, extensions, parsedPage, null, () -> false);
+    }
+
+    /**
+     * Compiles a page on the current thread, which may be a background thread if a main thread executor is given.
+     * Tag compilers that are not {@link TagCompiler#isThreadSafe() thread-safe} are then run using that executor, while
+     * this method waits for them to finish.
+     *
+     * @param cancelled Checked before each tag compiler is run. Once it returns true, compilation stops with a
+     *                  {@link CancellationException}.
+     */
+    public static GuidePage compile(PageCollection pages, ExtensionCollection extensions, ParsedGuidePage parsedPage,
+        @Nullable Executor mainThreadExecutor, BooleanSupplier cancelled) {
         // Translate page tree over to layout pages
-        var document = new PageCompiler(pages, extensions, parsedPage.sourcePack, parsedPage.id, parsedPage.source)
-            .compile(parsedPage.astRoot);
+        var document = new PageCompiler(
+            pages,
+            extensions,
+            parsedPage.sourcePack,
+            parsedPage.id,
+            parsedPage.source,
+            mainThreadExecutor,
+            cancelled).compile(parsedPage.getAstRoot());
 
         return new GuidePage(parsedPage.sourcePack, parsedPage.id, document);
     }
@@ -308,7 +467,7 @@ public final class PageCompiler {
                     layoutChild = createErrorBlock("Unhandled MDX element in block context", child);
                 } else {
                     layoutChild = null;
-                    compiler.compileBlockContext(this, layoutParent, el);
+                    runTagCompiler(compiler, () -> compiler.compileBlockContext(this, layoutParent, el));
                 }
             } else if (child instanceof MdAstPhrasingContent phrasingContent) {
                 // Wrap in a paragraph with no margins, but try appending to an existing paragraph before this
@@ -440,7 +599,7 @@ public final class PageCompiler {
                 layoutChild = createErrorFlowContent("Unhandled MDX element in flow context", content);
             } else {
                 layoutChild = null;
-                compiler.compileFlowContext(this, layoutParent, el);
+                runTagCompiler(compiler, () -> compiler.compileFlowContext(this, layoutParent, el));
             }
         } else {
             layoutChild = createErrorFlowContent("Unhandled Markdown node in flow context", content);
@@ -499,6 +658,41 @@ public final class PageCompiler {
         return image;
     }
 
+    private void runTagCompiler(TagCompiler compiler, Runnable task) {
+        checkCancelled();
+        if (mainThreadExecutor == null || runningOnMainThread || compiler.isThreadSafe()) {
+            task.run();
+            return;
+        }
+
+        try {
+            CompletableFuture.runAsync(() -> {
+                // The compilation may have been cancelled while this was waiting to be run
+                checkCancelled();
+                runningOnMainThread = true;
+                try {
+                    task.run();
+                } finally {
+                    runningOnMainThread = false;
+                }
+            }, mainThreadExecutor)
+                .join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private void checkCancelled() {
+        if (cancelled.getAsBoolean()) {
+            throw new CancellationException("Compilation of page " + pageId + " was cancelled");
+        }
+    }
+
     public LytBlock createErrorBlock(String text, UnistNode child) {
         var paragraph = new LytParagraph();
         paragraph.append(createErrorFlowContent(text, child));
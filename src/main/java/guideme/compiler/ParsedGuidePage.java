@@ -1,9 +1,15 @@
 package guideme.compiler;
 
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import net.minecraft.resources.ResourceLocation;
 
+import org.jetbrains.annotations.Nullable;
+
+import guideme.libs.mdast.PackedMdAst;
 import guideme.libs.mdast.model.MdAstRoot;
 
 public class ParsedGuidePage {
@@ -11,10 +17,40 @@ public class ParsedGuidePage {
     final String sourcePack;
     final ResourceLocation id;
     final String source;
-    final MdAstRoot astRoot;
     final Frontmatter frontmatter;
     final String language;
 
+    /**
+     * The syntax tree of eagerly parsed pages in its compact form, which is the only form that is kept for the
+     * lifetime of the page.
+     */
+    @Nullable
+    private final PackedMdAst packedAst;
+
+    /**
+     * The syntax tree of eagerly parsed pages that contain nodes without a compact form.
+     */
+    @Nullable
+    private final MdAstRoot unpackedAstRoot;
+
+    /**
+     * Used to build the syntax tree of lazily loaded pages on demand.
+     */
+    @Nullable
+    private final Supplier<MdAstRoot> astLoader;
+
+    /**
+     * The compact form of the syntax tree of lazily loaded pages, once it was built. While it is in memory, the object
+     * tree is rebuilt from it instead of parsing the page again.
+     */
+    private SoftReference<PackedMdAst> loadedPackedAst = new SoftReference<>(null);
+
+    /**
+     * The object tree while it is still in use, i.e. as the source nodes of a compiled page, so that it is shared
+     * with later callers instead of being rebuilt. The page itself does not keep it alive.
+     */
+    private WeakReference<MdAstRoot> loadedAstRoot = new WeakReference<>(null);
+
     @Deprecated(forRemoval = true)
     public ParsedGuidePage(String sourcePack, ResourceLocation id, String source, MdAstRoot astRoot,
         Frontmatter frontmatter) {
@@ -26,7 +62,32 @@ public class ParsedGuidePage {
         this.sourcePack = sourcePack;
         this.id = id;
         this.source = source;
-        this.astRoot = astRoot;
+        Objects.requireNonNull(astRoot, "astRoot");
+        if (PackedMdAst.canPack(astRoot)) {
+            this.packedAst = PackedMdAst.pack(astRoot);
+            this.unpackedAstRoot = null;
+            this.loadedAstRoot = new WeakReference<>(astRoot);
+        } else {
+            this.packedAst = null;
+            this.unpackedAstRoot = astRoot;
+        }
+        this.astLoader = null;
+        this.frontmatter = frontmatter;
+        this.language = Objects.requireNonNull(language, "language");
+    }
+
+    /**
+     * Creates a page whose syntax tree is only built when it is first accessed. Afterward, its compact form is softly
+     * referenced, so it can be reclaimed when memory runs low and the page will then be parsed again.
+     */
+    public ParsedGuidePage(String sourcePack, ResourceLocation id, String source, Supplier<MdAstRoot> astLoader,
+        Frontmatter frontmatter, String language) {
+        this.sourcePack = sourcePack;
+        this.id = id;
+        this.source = source;
+        this.packedAst = null;
+        this.unpackedAstRoot = null;
+        this.astLoader = Objects.requireNonNull(astLoader, "astLoader");
         this.frontmatter = frontmatter;
         this.language = Objects.requireNonNull(language, "language");
     }
@@ -39,12 +100,83 @@ public class ParsedGuidePage {
         return id;
     }
 
+    /**
+     * The page source with normalized line endings.
+     */
+    public String getSource() {
+        return source;
+    }
+
     public Frontmatter getFrontmatter() {
         return frontmatter;
     }
 
     public MdAstRoot getAstRoot() {
-        return astRoot;
+        if (unpackedAstRoot != null) {
+            return unpackedAstRoot;
+        }
+
+        synchronized (this) {
+            var result = loadedAstRoot.get();
+            if (result == null) {
+                var packed = packedAst != null ? packedAst : loadedPackedAst.get();
+                if (packed != null) {
+                    result = packed.toMdAst();
+                } else {
+                    result = Objects.requireNonNull(astLoader)
+                        .get();
+                    if (PackedMdAst.canPack(result)) {
+                        loadedPackedAst = new SoftReference<>(PackedMdAst.pack(result));
+                    }
+                }
+                loadedAstRoot = new WeakReference<>(result);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * The syntax tree in its compact form, for code that only reads it, such as search indexing. Nodes that have no
+     * compact form are left out.
+     */
+    public PackedMdAst getPackedAst() {
+        if (packedAst != null) {
+            return packedAst;
+        } else if (unpackedAstRoot != null) {
+            return PackedMdAst.pack(unpackedAstRoot);
+        }
+
+        synchronized (this) {
+            var result = loadedPackedAst.get();
+            if (result == null) {
+                var astRoot = loadedAstRoot.get();
+                if (astRoot == null) {
+                    // The object tree is only needed to pack it
+                    astRoot = Objects.requireNonNull(astLoader)
+                        .get();
+                }
+                result = PackedMdAst.pack(astRoot);
+                loadedPackedAst = new SoftReference<>(result);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * The syntax tree if it is currently in memory in either form, without parsing the page.
+     */
+    @Nullable
+    MdAstRoot getLoadedAstRoot() {
+        if (unpackedAstRoot != null) {
+            return unpackedAstRoot;
+        }
+
+        synchronized (this) {
+            if (loadedAstRoot.get() == null && packedAst == null && loadedPackedAst.get() == null) {
+                return null;
+            }
+        }
+        return getAstRoot();
     }
 
     public String getLanguage() {
@@ -30,6 +30,17 @@ public interface TagCompiler extends Extension {
         parent.append(compiler.createErrorFlowContent("Cannot use MDX tag " + el.name() + " in flow context", el));
     }
 
+    /**
+     * Pages may be compiled on a background thread. Compilers that access game state which may only be used from the
+     * client main thread (i.e. the level, options or recipes) must return false here, which will cause them to be run on
+     * the main thread, while the rest of the page is compiled in the background.
+     * <p>
+     * By default, only compilers that implement {@link ThreadSafeTagCompiler} are considered thread-safe.
+     */
+    default boolean isThreadSafe() {
+        return this instanceof ThreadSafeTagCompiler;
+    }
+
     default void index(IndexingContext indexer, MdxJsxElementFields el, IndexingSink sink) {
         indexer.indexContent(el.children(), sink);
     }
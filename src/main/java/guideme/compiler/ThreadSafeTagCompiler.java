@@ -0,0 +1,10 @@
+package guideme.compiler;
+
+/**
+ * Marks tag compilers that may run on the background thread that compiles the page (see
+ * {@link TagCompiler#isThreadSafe()}).
+ * <p>
+ * This excludes compilers that read the level, options or recipes, as well as ones that read the navigation tree,
+ * which is built up on the main thread.
+ */
+public interface ThreadSafeTagCompiler extends TagCompiler {}
@@ -8,13 +8,14 @@ import guideme.compiler.IndexingContext;
 import guideme.compiler.IndexingSink;
 import guideme.compiler.LinkParser;
 import guideme.compiler.PageCompiler;
+import guideme.compiler.ThreadSafeTagCompiler;
 import guideme.document.flow.LytFlowAnchor;
 import guideme.document.flow.LytFlowLink;
 import guideme.document.flow.LytFlowParent;
 import guideme.document.interaction.TextTooltip;
 import guideme.libs.mdast.mdx.model.MdxJsxElementFields;
 
-public class ATagCompiler extends FlowTagCompiler {
+public class ATagCompiler extends FlowTagCompiler implements ThreadSafeTagCompiler {
 
     @Override
     public Set<String> getTagNames() {
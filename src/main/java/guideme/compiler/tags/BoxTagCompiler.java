@@ -3,6 +3,7 @@ package guideme.compiler.tags;
 import java.util.Set;
 
 import guideme.compiler.PageCompiler;
+import guideme.compiler.ThreadSafeTagCompiler;
 import guideme.document.block.AlignItems;
 import guideme.document.block.LytAxisBox;
 import guideme.document.block.LytBlockContainer;
@@ -10,7 +11,7 @@ import guideme.document.block.LytHBox;
 import guideme.document.block.LytVBox;
 import guideme.libs.mdast.mdx.model.MdxJsxElementFields;
 
-public class BoxTagCompiler extends BlockTagCompiler {
+public class BoxTagCompiler extends BlockTagCompiler implements ThreadSafeTagCompiler {
 
     private final BoxFlowDirection direction;
 
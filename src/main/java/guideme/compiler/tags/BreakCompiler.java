@@ -3,12 +3,13 @@ package guideme.compiler.tags;
 import java.util.Set;
 
 import guideme.compiler.PageCompiler;
+import guideme.compiler.ThreadSafeTagCompiler;
 import guideme.document.flow.LytFlowBreak;
 import guideme.document.flow.LytFlowParent;
 import guideme.libs.mdast.mdx.model.MdxJsxElementFields;
 import guideme.libs.mdast.model.MdAstNode;
 
-public class BreakCompiler extends FlowTagCompiler {
+public class BreakCompiler extends FlowTagCompiler implements ThreadSafeTagCompiler {
 
     @Override
     public Set<String> getTagNames() {
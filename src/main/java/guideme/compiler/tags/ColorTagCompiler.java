@@ -5,12 +5,13 @@ import java.util.Set;
 import guideme.color.ColorValue;
 import guideme.color.SymbolicColorResolver;
 import guideme.compiler.PageCompiler;
+import guideme.compiler.ThreadSafeTagCompiler;
 import guideme.document.flow.LytFlowParent;
 import guideme.document.flow.LytFlowSpan;
 import guideme.libs.mdast.mdx.model.MdxJsxElementFields;
 import guideme.style.TextStyle;
 
-public class ColorTagCompiler extends FlowTagCompiler {
+public class ColorTagCompiler extends FlowTagCompiler implements ThreadSafeTagCompiler {
 
     @Override
     public Set<String> getTagNames() {
@@ -14,6 +14,7 @@ import org.slf4j.LoggerFactory;
 import guideme.compiler.IndexingContext;
 import guideme.compiler.IndexingSink;
 import guideme.compiler.PageCompiler;
+import guideme.compiler.ThreadSafeTagCompiler;
 import guideme.document.flow.LytFlowLink;
 import guideme.document.flow.LytFlowParent;
 import guideme.document.interaction.GuideTooltip;
@@ -24,7 +25,7 @@ import guideme.libs.mdast.mdx.model.MdxJsxElementFields;
 /**
  * Runs a command when clicked.
  */
-public class CommandLinkCompiler extends FlowTagCompiler {
+public class CommandLinkCompiler extends FlowTagCompiler implements ThreadSafeTagCompiler {
 
     private static final Logger LOG = LoggerFactory.getLogger(CommandLinkCompiler.class);
 
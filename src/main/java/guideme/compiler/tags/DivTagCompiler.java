@@ -3,11 +3,11 @@ package guideme.compiler.tags;
 import java.util.Set;
 
 import guideme.compiler.PageCompiler;
-import guideme.compiler.TagCompiler;
+import guideme.compiler.ThreadSafeTagCompiler;
 import guideme.document.block.LytBlockContainer;
 import guideme.libs.mdast.mdx.model.MdxJsxFlowElement;
 
-public class DivTagCompiler implements TagCompiler {
+public class DivTagCompiler implements ThreadSafeTagCompiler {
 
     @Override
     public Set<String> getTagNames() {
@@ -5,11 +5,12 @@ import java.util.Set;
 import guideme.compiler.IndexingContext;
 import guideme.compiler.IndexingSink;
 import guideme.compiler.PageCompiler;
+import guideme.compiler.ThreadSafeTagCompiler;
 import guideme.document.block.LytBlockContainer;
 import guideme.document.block.LytItemGrid;
 import guideme.libs.mdast.mdx.model.MdxJsxElementFields;
 
-public class ItemGridCompiler extends BlockTagCompiler {
+public class ItemGridCompiler extends BlockTagCompiler implements ThreadSafeTagCompiler {
 
     @Override
     public Set<String> getTagNames() {
@@ -25,6 +25,9 @@ public class LytFlowLink extends LytTooltipSpan {
     @Nullable
     private SoundEvent clickSound = GuideMEClient.GUIDE_CLICK_EVENT;
 
+    @Nullable
+    private PageAnchor pageLink;
+
     public LytFlowLink() {
         modifyStyle(style -> style.color(SymbolicColor.LINK));
         modifyHoverStyle(style -> style.underlined(true));
@@ -32,6 +35,7 @@ public class LytFlowLink extends LytTooltipSpan {
 
     public void setClickCallback(@Nullable Consumer<GuideUiHost> clickCallback) {
         this.clickCallback = clickCallback;
+        this.pageLink = null;
     }
 
     @Override
@@ -83,5 +87,13 @@ public class LytFlowLink extends LytTooltipSpan {
      */
     public void setPageLink(PageAnchor anchor) {
         setClickCallback(screen -> { screen.navigateTo(anchor); });
+        this.pageLink = anchor;
+    }
+
+    /**
+     * @return The page this link opens, if it was configured using {@link #setPageLink}.
+     */
+    public @Nullable PageAnchor getPageLink() {
+        return pageLink;
     }
 }
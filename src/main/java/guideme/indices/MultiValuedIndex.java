@@ -5,7 +5,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import net.minecraft.resources.ResourceLocation;
 
@@ -23,6 +22,9 @@ public class MultiValuedIndex<K, V> implements PageIndex {
 
     private final Map<K, List<Record<V>>> index = new HashMap<>();
 
+    // The keys each page was indexed under, so that changed pages can be removed without scanning the whole index
+    private final Map<ResourceLocation, List<K>> keysByPage = new HashMap<>();
+
     private final String name;
     private final EntryFunction<K, V> entryFunction;
     private final JsonSerializer<K> keySerializer;
@@ -59,6 +61,7 @@ public class MultiValuedIndex<K, V> implements PageIndex {
     @Override
     public void rebuild(List<ParsedGuidePage> pages) {
         index.clear();
+        keysByPage.clear();
 
         for (var page : pages) {
             addToIndex(page);
@@ -68,16 +71,20 @@ public class MultiValuedIndex<K, V> implements PageIndex {
     @Override
     public void update(List<ParsedGuidePage> allPages, List<GuidePageChange> changes) {
         // Clean up all index entries associated with changed pages
-        var idsToRemove = changes.stream()
-            .map(GuidePageChange::pageId)
-            .collect(Collectors.toSet());
-        var it = index.values()
-            .iterator();
-        while (it.hasNext()) {
-            var entries = it.next();
-            entries.removeIf(p -> idsToRemove.contains(p.pageId));
-            if (entries.isEmpty()) {
-                it.remove();
+        for (var change : changes) {
+            var pageId = change.pageId();
+            var keys = keysByPage.remove(pageId);
+            if (keys == null) {
+                continue;
+            }
+            for (var key : keys) {
+                var entries = index.get(key);
+                if (entries != null) {
+                    entries.removeIf(p -> p.pageId.equals(pageId));
+                    if (entries.isEmpty()) {
+                        index.remove(key);
+                    }
+                }
             }
         }
 
@@ -110,6 +117,8 @@ public class MultiValuedIndex<K, V> implements PageIndex {
             var value = entry.getValue();
             var entries = index.computeIfAbsent(key, k -> new ArrayList<>());
             entries.add(new Record<>(page.getId(), value));
+            keysByPage.computeIfAbsent(page.getId(), id -> new ArrayList<>())
+                .add(key);
         }
     }
 
@@ -1,10 +1,10 @@
 package guideme.indices;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import net.minecraft.resources.ResourceLocation;
 
@@ -27,6 +27,9 @@ public class UniqueIndex<K, V> implements PageIndex {
 
     private final Map<K, Record<V>> index = new HashMap<>();
 
+    // The keys each page was indexed under, so that changed pages can be removed without scanning the whole index
+    private final Map<ResourceLocation, List<K>> keysByPage = new HashMap<>();
+
     private final String name;
     private final EntryFunction<K, V> entryFunction;
     private final JsonSerializer<K> keySerializer;
@@ -65,6 +68,7 @@ public class UniqueIndex<K, V> implements PageIndex {
     @Override
     public void rebuild(List<ParsedGuidePage> pages) {
         index.clear();
+        keysByPage.clear();
         hadDuplicates = false;
 
         for (var page : pages) {
@@ -80,11 +84,14 @@ public class UniqueIndex<K, V> implements PageIndex {
         }
 
         // Clean up all index entries associated with changed pages
-        var idsToRemove = changes.stream()
-            .map(GuidePageChange::pageId)
-            .collect(Collectors.toSet());
-        index.values()
-            .removeIf(p -> idsToRemove.contains(p.pageId));
+        for (var change : changes) {
+            var keys = keysByPage.remove(change.pageId());
+            if (keys != null) {
+                for (var key : keys) {
+                    index.remove(key);
+                }
+            }
+        }
 
         // Then re-add new or changed pages
         for (var change : changes) {
@@ -100,6 +107,8 @@ public class UniqueIndex<K, V> implements PageIndex {
             var key = entry.getKey();
             var value = entry.getValue();
             var previousPage = index.put(key, new Record<>(page.getId(), value));
+            keysByPage.computeIfAbsent(page.getId(), id -> new ArrayList<>())
+                .add(key);
             if (previousPage != null) {
                 LOG.warn(
                     "Key conflict in index {}: {} is used by pages {} and {}",
@@ -0,0 +1,120 @@
+package guideme.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import net.minecraft.resources.ResourceLocation;
+
+import org.jetbrains.annotations.Nullable;
+
+import guideme.GuidePage;
+import guideme.compiler.ParsedGuidePage;
+
+/**
+ * Keeps recently used compiled pages of a guide in memory, so that returning to a page does not compile it again.
+ * Consumers that modify compiled pages, such as the guide screen, take them out of the cache instead (see
+ * {@link #take}).
+ * <p>
+ * The size of compiled documents can't be measured cheaply, so it is estimated from the length of the page source.
+ * Least recently used pages are evicted once the estimated size exceeds the budget. Unless the budget is zero, the most
+ * recently used page is always kept.
+ */
+final class CompiledPageCache {
+
+    /**
+     * Fixed overhead we assume for every compiled page.
+     */
+    private static final long BASE_PAGE_SIZE = 16 * 1024;
+
+    /**
+     * Estimated size of the compiled document per character of page source.
+     */
+    private static final long SIZE_PER_SOURCE_CHAR = 64;
+
+    private final LongSupplier budget;
+
+    private final Map<ResourceLocation, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long totalSize;
+
+    private record Entry(ParsedGuidePage parsedPage, GuidePage page, long size) {}
+
+    CompiledPageCache(LongSupplier budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * Gets the compiled page, if it was compiled from the given parsed page.
+     */
+    @Nullable
+    synchronized GuidePage get(ParsedGuidePage parsedPage) {
+        var entry = entries.get(parsedPage.getId());
+        if (entry == null) {
+            return null;
+        }
+        if (entry.parsedPage() != parsedPage) {
+            // Compiled from an outdated version of the page
+            remove(parsedPage.getId());
+            return null;
+        }
+        return entry.page();
+    }
+
+    /**
+     * Gets the compiled page like {@link #get}, and removes it from the cache.
+     */
+    @Nullable
+    synchronized GuidePage take(ParsedGuidePage parsedPage) {
+        var page = get(parsedPage);
+        if (page != null) {
+            remove(parsedPage.getId());
+        }
+        return page;
+    }
+
+    synchronized void put(ParsedGuidePage parsedPage, GuidePage page) {
+        remove(parsedPage.getId());
+
+        var maxSize = budget.getAsLong();
+        if (maxSize <= 0) {
+            return; // Caching is disabled
+        }
+
+        var entry = new Entry(parsedPage, page, estimateSize(parsedPage));
+        entries.put(parsedPage.getId(), entry);
+        totalSize += entry.size();
+
+        var it = entries.values()
+            .iterator();
+        while (totalSize > maxSize && entries.size() > 1 && it.hasNext()) {
+            var evicted = it.next();
+            it.remove();
+            totalSize -= evicted.size();
+        }
+    }
+
+    /**
+     * Checks if the compiled page would fit into the budget without evicting any other page.
+     */
+    synchronized boolean hasRoomFor(ParsedGuidePage parsedPage) {
+        return totalSize + estimateSize(parsedPage) <= budget.getAsLong();
+    }
+
+    synchronized void remove(ResourceLocation pageId) {
+        var entry = entries.remove(pageId);
+        if (entry != null) {
+            totalSize -= entry.size();
+        }
+    }
+
+    synchronized void clear() {
+        entries.clear();
+        totalSize = 0;
+    }
+
+    private static long estimateSize(ParsedGuidePage parsedPage) {
+        return BASE_PAGE_SIZE + parsedPage.getSource()
+            .length() * SIZE_PER_SOURCE_CHAR;
+    }
+}
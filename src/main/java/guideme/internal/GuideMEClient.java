@@ -39,6 +39,7 @@ import net.neoforged.neoforge.data.event.GatherDataEvent;
 import net.neoforged.neoforge.event.RegisterCommandsEvent;
 import net.neoforged.neoforge.registries.RegisterEvent;
 
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -75,6 +76,9 @@ public class GuideMEClient {
 
     private final GuideSearch search = new GuideSearch();
 
+    @Nullable
+    private ParsedPageCache pageCache;
+
     private RecipeMap recipeMap = RecipeMap.EMPTY;
     private Set<RecipeType<?>> availableRecipeTypes = Set.of();
 
@@ -123,11 +127,20 @@ public class GuideMEClient {
     private void onReceiveRecipes(RecipesReceivedEvent event) {
         recipeMap = event.getRecipeMap();
         availableRecipeTypes = Set.copyOf(event.getRecipeTypes());
+        invalidateCompiledPages();
     }
 
     private void onPlayerDisconnect(ClientPlayerNetworkEvent.LoggingOut event) {
         recipeMap = RecipeMap.EMPTY;
         availableRecipeTypes = Set.of();
+        invalidateCompiledPages();
+    }
+
+    // Compiled pages embed recipes
+    private static void invalidateCompiledPages() {
+        for (var guide : GuideRegistry.getAll()) {
+            guide.invalidateCompiledPages();
+        }
     }
 
     private void configureGpuDevice(ConfigureGpuDeviceEvent event) {
@@ -213,6 +226,47 @@ public class GuideMEClient {
         return clientConfig.hideMissingRecipeErrors.getAsBoolean();
     }
 
+    /**
+     * @return The persistent cache for parsed pages, or null if it is disabled.
+     */
+    @Nullable
+    ParsedPageCache getPageCache() {
+        if (!clientConfig.enablePageCache.getAsBoolean()) {
+            return null;
+        }
+        synchronized (this) {
+            if (pageCache == null) {
+                pageCache = ParsedPageCache.open(
+                    Minecraft.getInstance().gameDirectory.toPath()
+                        .resolve("guideme")
+                        .resolve("page-cache"));
+            }
+            return pageCache;
+        }
+    }
+
+    /**
+     * @return The maximum size of the persistent page cache in bytes.
+     */
+    long getPageCacheMaxSize() {
+        return clientConfig.pageCacheMaxSize.getAsInt() * 1024L * 1024L;
+    }
+
+    /**
+     * @return The estimated memory in bytes that each guide may use to keep compiled pages.
+     */
+    long getCompiledPageCacheBudget() {
+        return clientConfig.compiledPageCacheSize.getAsInt() * 1024L * 1024L;
+    }
+
+    public boolean isAsyncPageCompilation() {
+        return clientConfig.asyncPageCompilation.getAsBoolean();
+    }
+
+    public boolean isPrefetchPages() {
+        return clientConfig.prefetchPages.getAsBoolean();
+    }
+
     public boolean isFullWidthLayout() {
         return clientConfig.fullWidthLayout.getAsBoolean();
     }
@@ -274,8 +328,13 @@ public class GuideMEClient {
         final ModConfigSpec.BooleanValue adaptiveScaling;
         final ModConfigSpec.BooleanValue showDebugGuiOverlays;
         final ModConfigSpec.BooleanValue fullWidthLayout;
+        final ModConfigSpec.BooleanValue asyncPageCompilation;
+        final ModConfigSpec.BooleanValue prefetchPages;
         final ModConfigSpec.BooleanValue ignoreTranslatedGuides;
         final ModConfigSpec.BooleanValue hideMissingRecipeErrors;
+        final ModConfigSpec.BooleanValue enablePageCache;
+        final ModConfigSpec.IntValue pageCacheMaxSize;
+        final ModConfigSpec.IntValue compiledPageCacheSize;
 
         public ClientConfig() {
             var builder = new ModConfigSpec.Builder();
@@ -286,6 +345,14 @@ public class GuideMEClient {
             hideMissingRecipeErrors = builder.comment(
                 "Never show errors in guides when recipes can't be found (i.e. because they were hidden by a datapack).")
                 .define("hideMissingRecipeErrors", false);
+            enablePageCache = builder
+                .comment("Cache parsed guide pages on disk to speed up resource reloads when pages did not change.")
+                .define("enablePageCache", true);
+            pageCacheMaxSize = builder.comment("Maximum size of the guide page cache in megabytes.")
+                .defineInRange("pageCacheMaxSize", 64, 1, 4096);
+            compiledPageCacheSize = builder.comment(
+                "Estimated memory (in MB) per guide for keeping recently viewed pages compiled. 0 disables this.")
+                .defineInRange("compiledPageCacheSize", 16, 0, 1024);
             builder.pop();
 
             builder.push("gui");
@@ -294,6 +361,12 @@ public class GuideMEClient {
                 .define("adaptiveScaling", true);
             fullWidthLayout = builder.comment("Use the full width of the screen for the guide when it is opened.")
                 .define("fullWidthLayout", true);
+            asyncPageCompilation = builder
+                .comment("Compile guide pages in the background and show a placeholder until they are ready.")
+                .define("asyncPageCompilation", true);
+            prefetchPages = builder
+                .comment("Compile pages that are likely to be opened next (i.e. hovered links) in the background.")
+                .define("prefetchPages", true);
             builder.pop();
 
             builder.push("debug");
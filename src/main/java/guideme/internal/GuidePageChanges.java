@@ -0,0 +1,71 @@
+package guideme.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.resources.ResourceLocation;
+
+import guideme.GuidePageChange;
+import guideme.compiler.ParsedGuidePage;
+
+/**
+ * Reduces the page changes collected by the source watcher to at most one change per page, so that indices and the
+ * navigation tree never see the same page changed twice in one batch.
+ * <p>
+ * Translations into the current language take precedence over the default language version of a page, so a change to
+ * the default language version is dropped while a translation is shown. Changes in other languages are dropped.
+ */
+final class GuidePageChanges {
+    private GuidePageChanges() {
+    }
+
+    /**
+     * @param developmentPages The development pages before the changes.
+     * @return The changes in the order in which the pages were last changed, with the old page taken from
+     *         <code>developmentPages</code>.
+     */
+    static List<GuidePageChange> resolve(List<GuidePageChange> rawChanges, String defaultLanguage,
+        String currentLanguage, Map<ResourceLocation, ParsedGuidePage> developmentPages) {
+        // Only keep the last change for each page and language
+        var defaultLanguageChanges = new HashMap<ResourceLocation, GuidePageChange>();
+        var translationChanges = new HashMap<ResourceLocation, GuidePageChange>();
+        var pageIds = new LinkedHashSet<ResourceLocation>();
+        for (var change : rawChanges) {
+            var pageId = change.pageId();
+            if (change.language() == null || defaultLanguage.equals(change.language())) {
+                defaultLanguageChanges.put(pageId, change);
+            } else if (currentLanguage.equals(change.language())) {
+                translationChanges.put(pageId, change);
+            } else {
+                continue;
+            }
+            pageIds.remove(pageId);
+            pageIds.add(pageId);
+        }
+
+        // Then decide which language each page ends up in
+        var changes = new ArrayList<GuidePageChange>(pageIds.size());
+        for (var pageId : pageIds) {
+            var oldPage = developmentPages.get(pageId);
+            var translationChange = translationChanges.get(pageId);
+            var defaultLanguageChange = defaultLanguageChanges.get(pageId);
+
+            GuidePageChange change;
+            if (translationChange != null && (translationChange.newPage() != null || defaultLanguageChange == null)) {
+                change = translationChange;
+            } else if (defaultLanguageChange != null && (translationChange != null || oldPage == null
+                || defaultLanguage.equals(oldPage.getLanguage()))) {
+                // Also used when the translation was removed in the same batch
+                change = defaultLanguageChange;
+            } else {
+                continue; // The translation that is shown hides the default language version
+            }
+
+            changes.add(new GuidePageChange(change.language(), pageId, oldPage, change.newPage()));
+        }
+        return changes;
+    }
+}
@@ -1,15 +1,24 @@
 package guideme.internal;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import net.minecraft.client.resources.metadata.language.LanguageMetadataSection;
 import net.minecraft.resources.FileToIdConverter;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.Resource;
 import net.minecraft.server.packs.resources.ResourceManager;
 import net.minecraft.server.packs.resources.SimpleJsonResourceReloadListener;
 import net.minecraft.server.packs.resources.SimplePreparableReloadListener;
@@ -34,10 +43,32 @@ class GuideReloadListener extends SimplePreparableReloadListener<GuideReloadList
 
     private static final Logger LOG = LoggerFactory.getLogger(GuideReloadListener.class);
 
+    /**
+     * Upper bound for the number of threads used to parse pages in parallel. Parsing is CPU-bound, so we leave one core
+     * for the rest of the reload and never grab more than a handful of threads.
+     */
+    private static final int MAX_PARSE_THREADS = 8;
+
+    private static final ForkJoinPool PARSE_POOL = new ForkJoinPool(
+        Math.max(
+            1,
+            Math.min(
+                MAX_PARSE_THREADS,
+                Runtime.getRuntime()
+                    .availableProcessors() - 1)),
+        pool -> {
+            var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("GuideMEPageParser-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        },
+        null,
+        false);
+
     @Override
     protected Result prepare(ResourceManager resourceManager, ProfilerFiller profiler) {
         profiler.startTick();
-        var guidePages = new IdentityHashMap<ResourceLocation, Map<ResourceLocation, ParsedGuidePage>>();
+        var pagesToLoad = new LinkedHashMap<ResourceLocation, List<PageToLoad>>();
 
         String language = LangUtil.getCurrentLanguage();
         if (GuideMEClient.instance()
@@ -51,23 +82,25 @@ class GuideReloadListener extends SimplePreparableReloadListener<GuideReloadList
         // Discover data driven guides now
         var dataDrivenGuides = loadDataDrivenGuides(resourceManager);
 
-        // Reload pages for data-driven guides first
+        // Find pages for data-driven guides first
         for (var guide : dataDrivenGuides.values()) {
-            guidePages.put(
+            pagesToLoad.put(
                 guide.getId(),
-                loadPages(
+                findPages(
                     resourceManager,
+                    guide.getId(),
                     guide.getContentRootFolder(),
                     guide.getDefaultLanguage(),
                     language,
                     languages));
         }
         for (var guide : GuideRegistry.getStaticGuides()) {
-            if (!guidePages.containsKey(guide.getId())) {
-                guidePages.put(
+            if (!pagesToLoad.containsKey(guide.getId())) {
+                pagesToLoad.put(
                     guide.getId(),
-                    loadPages(
+                    findPages(
                         resourceManager,
+                        guide.getId(),
                         guide.getContentRootFolder(),
                         guide.getDefaultLanguage(),
                         language,
@@ -75,6 +108,16 @@ class GuideReloadListener extends SimplePreparableReloadListener<GuideReloadList
             }
         }
 
+        // Then parse the pages of all guides at once
+        var pageCache = GuideMEClient.instance()
+            .getPageCache();
+        var guidePages = parsePages(pagesToLoad, pageCache);
+        if (pageCache != null) {
+            pageCache.evict(
+                GuideMEClient.instance()
+                    .getPageCacheMaxSize());
+        }
+
         profiler.endTick();
         return new Result(dataDrivenGuides, guidePages, languages);
     }
@@ -158,9 +201,13 @@ class GuideReloadListener extends SimplePreparableReloadListener<GuideReloadList
         return dataDrivenGuides;
     }
 
-    private static Map<ResourceLocation, ParsedGuidePage> loadPages(ResourceManager resourceManager, String contentRoot,
-        String defaultLanguage, @Nullable String currentLanguage, Set<String> languages) {
-        var pagesForGuide = new HashMap<ResourceLocation, ParsedGuidePage>();
+    /**
+     * Finds the resources for all pages of a guide and resolves which language variant of each page will be loaded.
+     * This does not read the pages.
+     */
+    private static List<PageToLoad> findPages(ResourceManager resourceManager, ResourceLocation guideId,
+        String contentRoot, String defaultLanguage, @Nullable String currentLanguage, Set<String> languages) {
+        var pagesToLoad = new ArrayList<PageToLoad>();
 
         var resources = resourceManager.listResources(
             contentRoot,
@@ -192,15 +239,76 @@ class GuideReloadListener extends SimplePreparableReloadListener<GuideReloadList
                 }
             }
 
-            String sourcePackId = resource.sourcePackId();
-            try (var in = resource.open()) {
-                pagesForGuide.put(pageId, PageCompiler.parse(sourcePackId, language, pageId, in));
-            } catch (IOException e) {
-                LOG.error("Failed to load guidebook page {} from pack {}", pageId, sourcePackId, e);
+            pagesToLoad.add(new PageToLoad(guideId, pageId, language, resource));
+        }
+
+        return pagesToLoad;
+    }
+
+    /**
+     * Parses the pages of all guides in parallel. The resulting maps only depend on the input, not on the order in
+     * which pages finish parsing.
+     */
+    private static Map<ResourceLocation, Map<ResourceLocation, ParsedGuidePage>> parsePages(
+        Map<ResourceLocation, List<PageToLoad>> pagesToLoad, @Nullable ParsedPageCache pageCache) {
+        var tasks = new ArrayList<Callable<ParsedGuidePage>>();
+        for (var pages : pagesToLoad.values()) {
+            for (var page : pages) {
+                tasks.add(() -> page.load(pageCache));
             }
         }
 
-        return pagesForGuide;
+        var results = PARSE_POOL.invokeAll(tasks);
+
+        var guidePages = new IdentityHashMap<ResourceLocation, Map<ResourceLocation, ParsedGuidePage>>();
+        var resultIt = results.iterator();
+        for (var entry : pagesToLoad.entrySet()) {
+            var pagesForGuide = new HashMap<ResourceLocation, ParsedGuidePage>();
+            for (var page : entry.getValue()) {
+                var parsedPage = getResult(page, resultIt.next());
+                if (parsedPage != null) {
+                    pagesForGuide.put(page.pageId(), parsedPage);
+                }
+            }
+            guidePages.put(entry.getKey(), pagesForGuide);
+        }
+        return guidePages;
+    }
+
+    @Nullable
+    private static ParsedGuidePage getResult(PageToLoad page, Future<ParsedGuidePage> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+            throw new RuntimeException("Interrupted while loading guidebook pages", e);
+        } catch (ExecutionException e) {
+            LOG.error(
+                "Failed to load guidebook page {} from pack {}",
+                page.pageId(),
+                page.resource()
+                    .sourcePackId(),
+                e.getCause());
+            return null;
+        }
+    }
+
+    private record PageToLoad(ResourceLocation guideId, ResourceLocation pageId, String language,
+        Resource resource) {
+
+        ParsedGuidePage load(@Nullable ParsedPageCache pageCache) throws IOException {
+            try (var in = resource.open()) {
+                // Positions are only used to point at the source in error messages, which is mostly useful while
+                // editing pages from the development sources, so pages from resource packs are parsed without them
+                if (pageCache != null) {
+                    return pageCache
+                        .parse(guideId, resource.sourcePackId(), language, pageId, in.readAllBytes(), false);
+                }
+                var content = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                return PageCompiler.parseLazily(resource.sourcePackId(), language, pageId, content, false);
+            }
+        }
     }
 
     protected record Result(Map<ResourceLocation, MutableGuide> dataDrivenGuides,
@@ -1,9 +1,11 @@
 package guideme.internal;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileVisitResult;
 import java.nio.file.FileVisitor;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
@@ -13,8 +15,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import net.minecraft.resources.ResourceLocation;
 import net.neoforged.fml.ModList;
@@ -24,6 +30,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Stopwatch;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import guideme.GuidePageChange;
@@ -38,6 +46,16 @@ class GuideSourceWatcher implements AutoCloseable {
 
     private static final Logger LOG = LoggerFactory.getLogger(GuideSourceWatcher.class);
 
+    /**
+     * Editors often write a file several times when saving it. Events for a path are only processed once no further
+     * events for it came in for this long.
+     */
+    private static final long DEBOUNCE_MILLIS = 100;
+
+    private static final int PARSE_THREADS = 2;
+
+    private final ResourceLocation guideId;
+
     private final String defaultLanguage;
 
     /**
@@ -63,7 +81,21 @@ class GuideSourceWatcher implements AutoCloseable {
 
     private final ExecutorService watchExecutor;
 
-    public GuideSourceWatcher(String namespace, String defaultLanguage, Path sourceFolder) {
+    // Changed pages are parsed here, without holding the lock, and only the results are queued
+    private final ScheduledExecutorService parseExecutor;
+
+    // The number of the most recent event for paths that have not been processed yet
+    private final Map<Path, Long> pendingEvents = new ConcurrentHashMap<>();
+    private final AtomicLong eventCounter = new AtomicLong();
+
+    // Hashes of the last loaded content of each page file, used to ignore saves that didn't change anything
+    private final Map<Path, HashCode> contentHashes = new ConcurrentHashMap<>();
+
+    // The last loaded page of each page file, whose syntax tree is reused when only parts of the file changed
+    private final Map<Path, ParsedGuidePage> loadedPages = new ConcurrentHashMap<>();
+
+    public GuideSourceWatcher(ResourceLocation guideId, String namespace, String defaultLanguage, Path sourceFolder) {
+        this.guideId = guideId;
         this.namespace = namespace;
         // The namespace does not necessarily *need* to be a mod id, but if it is, the source pack needs to
         // follow the specific mod-id format. Otherwise we assume it's a resource pack where namespace == pack id,
@@ -81,6 +113,11 @@ class GuideSourceWatcher implements AutoCloseable {
             new ThreadFactoryBuilder().setDaemon(true)
                 .setNameFormat("GuideMELiveReloadWatcher%d")
                 .build());
+        parseExecutor = Executors.newScheduledThreadPool(
+            PARSE_THREADS,
+            new ThreadFactoryBuilder().setDaemon(true)
+                .setNameFormat("GuideMELiveReloadParser%d")
+                .build());
 
         // Watch the folder recursively in a separate thread, queue up any changes and apply them
         // in the client tick.
@@ -147,6 +184,8 @@ class GuideSourceWatcher implements AutoCloseable {
         }
 
         LOG.info("Loading {} guidebook pages", pagesToLoad.size());
+        var pageCache = GuideMEClient.instance()
+            .getPageCache();
         var loadedPages = pagesToLoad.entrySet()
             .stream()
             .map(entry -> {
@@ -165,8 +204,18 @@ class GuideSourceWatcher implements AutoCloseable {
                     language = defaultLanguage;
                 }
 
-                try (var in = Files.newInputStream(path)) {
-                    return PageCompiler.parse(sourcePackId, language, pageId, in);
+                try {
+                    var content = Files.readAllBytes(path);
+                    contentHashes.put(path, hash(content));
+                    ParsedGuidePage page;
+                    if (pageCache != null) {
+                        page = pageCache.parse(guideId, sourcePackId, language, pageId, content, true);
+                    } else {
+                        var source = new String(content, StandardCharsets.UTF_8);
+                        page = PageCompiler.parseLazily(sourcePackId, language, pageId, source);
+                    }
+                    loadedPages.put(path, page);
+                    return page;
 
                 } catch (Exception e) {
                     LOG.error("Failed to reload guidebook page {}", path, e);
@@ -214,6 +263,7 @@ class GuideSourceWatcher implements AutoCloseable {
         changedPages.clear();
         deletedPages.clear();
         watchExecutor.shutdown();
+        parseExecutor.shutdownNow();
 
         if (sourceWatcher != null) {
             try {
@@ -232,8 +282,7 @@ class GuideSourceWatcher implements AutoCloseable {
                 return;
             }
             switch (event.eventType()) {
-                case CREATE, MODIFY -> pageChanged(event.path());
-                case DELETE -> pageDeleted(event.path());
+                case CREATE, MODIFY, DELETE -> scheduleEvent(event.path());
             }
         }
 
@@ -248,51 +297,122 @@ class GuideSourceWatcher implements AutoCloseable {
         }
     }
 
-    // Only call while holding the lock!
-    private synchronized void pageChanged(Path path) {
+    /**
+     * Processes the path once no further events for it came in during the debounce window. Whether the page was
+     * changed or deleted is decided by looking at the file at that point.
+     */
+    private void scheduleEvent(Path path) {
+        if (getPageId(path) == null) {
+            return; // Probably not a page
+        }
+
+        var eventNumber = eventCounter.incrementAndGet();
+        pendingEvents.put(path, eventNumber);
+        parseExecutor.schedule(() -> processEvent(path, eventNumber), DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private void processEvent(Path path, long eventNumber) {
+        if (!Objects.equals(pendingEvents.get(path), eventNumber)) {
+            return; // Another event came in, which will be processed later
+        }
+
         var pageKey = getPageLangKey(path);
         if (pageKey == null) {
-            return; // Probably not a page
+            pendingEvents.remove(path, eventNumber);
+            return;
         }
 
-        var language = Objects.requireNonNullElse(pageKey.sourceLang(), defaultLanguage);
+        byte[] content;
+        try {
+            content = Files.readAllBytes(path);
+        } catch (NoSuchFileException e) {
+            pageDeleted(path, eventNumber, pageKey);
+            return;
+        } catch (IOException e) {
+            LOG.error("Failed to reload guidebook page {}", path, e);
+            pendingEvents.remove(path, eventNumber);
+            return;
+        }
 
-        // If it was previously deleted in the same change-set, undelete it
-        deletedPages.remove(pageKey);
+        var contentHash = hash(content);
+        if (contentHash.equals(contentHashes.get(path))) {
+            pendingEvents.remove(path, eventNumber);
+            return; // Saved without changes
+        }
 
-        try (var in = Files.newInputStream(path)) {
-            var page = PageCompiler.parse(sourcePackId, language, pageKey.pageId, in);
-            changedPages.put(pageKey, page);
+        var language = Objects.requireNonNullElse(pageKey.sourceLang(), defaultLanguage);
+        // Taken out of the map, since its syntax tree can only be reused once
+        var previousPage = loadedPages.remove(path);
+        ParsedGuidePage page;
+        try {
+            var source = new String(content, StandardCharsets.UTF_8);
+            if (previousPage != null && previousPage.getLanguage()
+                .equals(language)) {
+                page = PageCompiler.reparse(previousPage, source);
+            } else {
+                page = PageCompiler.parse(sourcePackId, language, pageKey.pageId(), source);
+            }
         } catch (Exception e) {
             LOG.error("Failed to reload guidebook page {}", path, e);
+            pendingEvents.remove(path, eventNumber);
+            return;
         }
-    }
 
-    // Only call while holding the lock!
-    private synchronized void pageDeleted(Path path) {
-        var pageKey = getPageLangKey(path);
-        if (pageKey == null) {
-            return; // Probably not a page
-        }
+        publish(path, eventNumber, contentHash, pageKey, page);
+    }
 
+    private void pageDeleted(Path path, long eventNumber, PageLangKey pageKey) {
         // If a language specific page is deleted, make it fall back to the default language page instead
         var defaultLangPath = sourceFolder.resolve(
             pageKey.pageId()
-                .toString());
+                .getPath());
         if (!defaultLangPath.equals(path)) {
             try (var in = Files.newInputStream(defaultLangPath)) {
                 var page = PageCompiler.parse(sourcePackId, defaultLanguage, pageKey.pageId(), in);
-                changedPages.put(pageKey, page);
-                deletedPages.remove(pageKey);
+                publish(path, eventNumber, null, pageKey, page);
                 return;
             } catch (Exception e) {
                 LOG.error("Failed to load default language guidebook page {}", path, e);
             }
         }
 
-        // If it was previously changed in the same change-set, remove the change
-        changedPages.remove(pageKey);
-        deletedPages.add(pageKey);
+        publish(path, eventNumber, null, pageKey, null);
+    }
+
+    /**
+     * Queues the result of processing an event, unless another event for the same path came in while it was being
+     * processed.
+     *
+     * @param page The new page, or null if it was deleted.
+     */
+    private synchronized void publish(Path path, long eventNumber, @Nullable HashCode contentHash, PageLangKey pageKey,
+        @Nullable ParsedGuidePage page) {
+        if (!pendingEvents.remove(path, eventNumber)) {
+            return;
+        }
+
+        if (contentHash != null) {
+            contentHashes.put(path, contentHash);
+        } else {
+            contentHashes.remove(path);
+        }
+
+        if (page != null) {
+            loadedPages.put(path, page);
+            // If it was previously deleted in the same change-set, undelete it
+            deletedPages.remove(pageKey);
+            changedPages.put(pageKey, page);
+        } else {
+            // If it was previously changed in the same change-set, remove the change
+            loadedPages.remove(path);
+            changedPages.remove(pageKey);
+            deletedPages.add(pageKey);
+        }
+    }
+
+    private static HashCode hash(byte[] content) {
+        return Hashing.murmur3_128()
+            .hashBytes(content);
     }
 
     @Nullable
@@ -26,7 +26,8 @@ public enum GuidebookText implements LocalizationEnum {
     Crafting("Crafting"),
     FullWidthView("Full Width View"),
     CloseFullWidthView("Close Full Width View"),
-    RunsCommand("Runs Command:");
+    RunsCommand("Runs Command:"),
+    LoadingPage("Loading...");
 
     private final String englishText;
 
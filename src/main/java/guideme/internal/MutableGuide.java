@@ -4,13 +4,18 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import net.minecraft.client.Minecraft;
 import net.minecraft.resources.ResourceLocation;
@@ -20,10 +25,13 @@ import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import guideme.Guide;
 import guideme.GuideItemSettings;
 import guideme.GuidePage;
 import guideme.GuidePageChange;
+import guideme.PageCollection;
 import guideme.compiler.PageCompiler;
 import guideme.compiler.ParsedGuidePage;
 import guideme.extensions.ExtensionCollection;
@@ -40,18 +48,31 @@ public final class MutableGuide implements Guide {
 
     private static final Logger LOG = LoggerFactory.getLogger(MutableGuide.class);
 
+    /**
+     * Pages are compiled one at a time in the background. Parts of the compilation that must run on the main thread
+     * are handed off to it by the {@link PageCompiler}.
+     */
+    private static final ExecutorService COMPILE_EXECUTOR = Executors.newSingleThreadExecutor(
+        new ThreadFactoryBuilder().setNameFormat("GuideMEPageCompiler-%d")
+            .setDaemon(true)
+            .build());
+
     private final ResourceLocation id;
     private final String defaultNamespace;
     private final String folder;
     private final String defaultLanguage;
     private final ResourceLocation startPage;
-    private final Map<ResourceLocation, ParsedGuidePage> developmentPages = new HashMap<>();
+    /**
+     * Like {@link #pages} and {@link #navigationTree}, this is replaced rather than modified, so pages compiled in the
+     * background see a consistent state (see {@link PageSnapshot}).
+     */
+    private volatile Map<ResourceLocation, ParsedGuidePage> developmentPages = Map.of();
     private final Map<Class<?>, PageIndex> indices;
-    private NavigationTree navigationTree = new NavigationTree();
+    private volatile NavigationTree navigationTree = new NavigationTree();
     /**
      * These are only loaded for the current language and backfilled by default language pages.
      */
-    private Map<ResourceLocation, ParsedGuidePage> pages;
+    private volatile Map<ResourceLocation, ParsedGuidePage> pages;
     private final ExtensionCollection extensions;
     private final boolean availableToOpenHotkey;
     private final GuideItemSettings itemSettings;
@@ -64,6 +85,16 @@ public final class MutableGuide implements Guide {
     @Nullable
     private GuideSourceWatcher watcher;
 
+    private final CompiledPageCache compiledPages = new CompiledPageCache(
+        () -> GuideMEClient.instance()
+            .getCompiledPageCacheBudget());
+
+    /**
+     * Pages that are currently being compiled in the background, so that requesting the same page again (i.e. after
+     * it was prefetched) does not compile it twice.
+     */
+    private final Map<ParsedGuidePage, PageCompileTask> compilingPages = new IdentityHashMap<>();
+
     public MutableGuide(ResourceLocation id, String defaultNamespace, String folder, String defaultLanguage,
         ResourceLocation startPage, @Nullable Path developmentSourceFolder, @Nullable String developmentSourceNamespace,
         Map<Class<?>, PageIndex> indices, ExtensionCollection extensions, boolean availableToOpenHotkey,
@@ -116,6 +147,7 @@ public final class MutableGuide implements Guide {
     @Override
     @Nullable
     public ParsedGuidePage getParsedPage(ResourceLocation id) {
+        var pages = this.pages;
         if (pages == null) {
             LOG.warn("Can't get page {}. Pages not loaded yet.", id);
             return null;
@@ -128,8 +160,117 @@ public final class MutableGuide implements Guide {
     @Nullable
     public GuidePage getPage(ResourceLocation id) {
         var page = getParsedPage(id);
+        if (page == null) {
+            return null;
+        }
+
+        var compiledPage = compiledPages.get(page);
+        if (compiledPage == null) {
+            compiledPage = PageCompiler.compile(this, extensions, page);
+            compiledPages.put(page, compiledPage);
+        }
+        return compiledPage;
+    }
+
+    /**
+     * Gets a compiled page that belongs to the caller, which may then modify it, i.e. to show it on screen. A page that
+     * has already been compiled is taken out of the cache, so it is not shared with other callers.
+     *
+     * @return null if the page doesn't exist.
+     */
+    @Nullable
+    public GuidePage takePage(ResourceLocation id) {
+        var page = getParsedPage(id);
+        if (page == null) {
+            return null;
+        }
+
+        var compiledPage = compiledPages.take(page);
+        if (compiledPage == null) {
+            compiledPage = PageCompiler.compile(this, extensions, page);
+        }
+        return compiledPage;
+    }
+
+    /**
+     * Like {@link #takePage}, but compiles the page in the background. Returns a completed future if the page has
+     * already been compiled.
+     *
+     * @return null if the page doesn't exist.
+     */
+    @Nullable
+    public CompletableFuture<GuidePage> takePageAsync(ResourceLocation id) {
+        var page = getParsedPage(id);
+        if (page == null) {
+            return null;
+        }
+
+        // A prefetch only puts its result into the cache while holding this lock, so it either finishes before the page
+        // is taken here, or it is taken over and keeps its result out of the cache
+        synchronized (compilingPages) {
+            var compiledPage = compiledPages.take(page);
+            if (compiledPage != null) {
+                return CompletableFuture.completedFuture(compiledPage);
+            }
+
+            // Callers receive a copy, so cancelling it does not affect the compilation
+            return compileAsync(page, false).future.copy();
+        }
+    }
+
+    /**
+     * Compiles the page in the background, but only if it is not compiled yet and it fits into the free space of the
+     * compiled page cache. Tag compilers that have to run on the main thread are deferred until the returned task runs
+     * them, and the task can be cancelled as long as the page was not requested in the meantime.
+     *
+     * @return null if the page doesn't exist or doesn't need to be prefetched.
+     */
+    @Nullable
+    public PageCompileTask prefetchPage(ResourceLocation id) {
+        var page = getParsedPage(id);
+        if (page == null || compiledPages.get(page) != null || !compiledPages.hasRoomFor(page)) {
+            return null;
+        }
+
+        return compileAsync(page, true);
+    }
+
+    private PageCompileTask compileAsync(ParsedGuidePage page, boolean prefetch) {
+        synchronized (compilingPages) {
+            var task = compilingPages.get(page);
+            // A cancelled prefetch may already be stopping, so it is replaced rather than taken over
+            if (task != null && (prefetch ? !task.isCancelled() : task.require())) {
+                return task;
+            }
 
-        return page != null ? PageCompiler.compile(this, extensions, page) : null;
+            var newTask = new PageCompileTask(prefetch);
+            var snapshot = new PageSnapshot(this, pages, developmentPages, navigationTree);
+            newTask.future = CompletableFuture.supplyAsync(() -> {
+                try {
+                    var result = PageCompiler.compile(snapshot, extensions, page, newTask, newTask::isCancelled);
+                    synchronized (compilingPages) {
+                        // A page that was requested is owned by the caller and must not be shared through the cache
+                        if (newTask.isPrefetch()) {
+                            compiledPages.put(page, result);
+                        }
+                    }
+                    return result;
+                } finally {
+                    synchronized (compilingPages) {
+                        compilingPages.remove(page, newTask);
+                    }
+                }
+            }, COMPILE_EXECUTOR);
+            compilingPages.put(page, newTask);
+            return newTask;
+        }
+    }
+
+    /**
+     * Discards all compiled pages, i.e. because game data they depend on, such as recipes, has changed.
+     */
+    public void invalidateCompiledPages() {
+        compiledPages.clear();
     }
 
     @Override
@@ -138,13 +279,18 @@ public final class MutableGuide implements Guide {
             throw new IllegalStateException("Pages are not loaded yet.");
         }
 
+        return mergePages(pages, developmentPages);
+    }
+
+    private static Collection<ParsedGuidePage> mergePages(Map<ResourceLocation, ParsedGuidePage> pages,
+        Map<ResourceLocation, ParsedGuidePage> developmentPages) {
         if (developmentPages.isEmpty()) {
-            return this.pages.values();
+            return pages.values();
         }
 
-        var pages = new LinkedHashMap<>(this.pages);
-        pages.putAll(developmentPages);
-        return pages.values();
+        var result = new LinkedHashMap<>(pages);
+        result.putAll(developmentPages);
+        return result.values();
     }
 
     @Override
@@ -199,6 +345,7 @@ public final class MutableGuide implements Guide {
 
     @Override
     public boolean pageExists(ResourceLocation pageId) {
+        var pages = this.pages;
         return developmentPages.containsKey(pageId) || pages != null && pages.containsKey(pageId);
     }
 
@@ -242,7 +389,7 @@ public final class MutableGuide implements Guide {
             return;
         }
 
-        watcher = new GuideSourceWatcher(developmentSourceNamespace, defaultLanguage, developmentSourceFolder);
+        watcher = new GuideSourceWatcher(id, developmentSourceNamespace, defaultLanguage, developmentSourceFolder);
         Runtime.getRuntime()
             .addShutdownHook(new Thread(watcher::close));
     }
@@ -258,64 +405,100 @@ public final class MutableGuide implements Guide {
         }
     }
 
-    private boolean isForDefaultLanguage(GuidePageChange change) {
-        return change.language() == null || defaultLanguage.equals(change.language());
-    }
+    /**
+     * The pages and navigation of a guide at the time a page started compiling in the background, so that changes
+     * applied on the main thread in the meantime don't race with the compilation. Indices and assets are still read
+     * from the guide.
+     */
+    private record PageSnapshot(MutableGuide guide, Map<ResourceLocation, ParsedGuidePage> pages,
+        Map<ResourceLocation, ParsedGuidePage> developmentPages, NavigationTree navigationTree)
+        implements PageCollection {
 
-    private void applyChanges(List<GuidePageChange> changes) {
-        var initialPages = new HashMap<>(developmentPages);
+        @Override
+        public <T extends PageIndex> T getIndex(Class<T> indexClass) {
+            return guide.getIndex(indexClass);
+        }
 
-        var currentLanguage = LangUtil.getCurrentLanguage();
-        // Remove redundant changes
-        for (int i = changes.size() - 1; i >= 0; i--) {
-            var change = changes.get(i);
-            if (change == null) {
-                continue;
-            }
+        @Override
+        public Collection<ParsedGuidePage> getPages() {
+            return mergePages(pages, developmentPages);
+        }
 
-            // Delete changes for languages that aren't relevant
-            if (!isForDefaultLanguage(change) && !currentLanguage.equals(change.language())) {
-                changes.set(i, null);
-            } else {
-                for (int j = 0; j < i; j++) {
-                    var prevChange = changes.get(j);
-                    if (prevChange != null && prevChange.pageId()
-                        .equals(change.pageId())) {
-                        changes.set(j, null);
-                    }
-                }
-            }
+        @Override
+        @Nullable
+        public ParsedGuidePage getParsedPage(ResourceLocation id) {
+            return developmentPages.getOrDefault(id, pages.get(id));
         }
-        changes.removeIf(Objects::isNull); // remove erased changes
 
-        // Enrich each change with the previous page data while we process them
-        for (int i = 0; i < changes.size(); i++) {
-            var change = changes.get(i);
-            var pageId = change.pageId();
+        @Override
+        @Nullable
+        public GuidePage getPage(ResourceLocation id) {
+            return guide.getPage(id);
+        }
+
+        @Override
+        public byte @Nullable [] loadAsset(ResourceLocation id) {
+            return guide.loadAsset(id);
+        }
 
-            // Handle language changes
-            var currentPage = developmentPages.get(pageId);
-            if (currentPage != null && !defaultLanguage.equals(currentPage.getLanguage())
-                && isForDefaultLanguage(change)) {
-                changes.set(i, null);
-                continue;
+        @Override
+        public NavigationTree getNavigationTree() {
+            return navigationTree;
+        }
+
+        @Override
+        public boolean pageExists(ResourceLocation pageId) {
+            return developmentPages.containsKey(pageId) || pages.containsKey(pageId);
+        }
+    }
+
+    /**
+     * All pages of this guide, including development pages. Only collected when an index actually accesses it.
+     */
+    private class AllPagesList extends AbstractList<ParsedGuidePage> {
+        @Nullable
+        private List<ParsedGuidePage> pageList;
+
+        private List<ParsedGuidePage> getPageList() {
+            if (pageList == null) {
+                pageList = new ArrayList<>(pages.size() + developmentPages.size());
+                pageList.addAll(pages.values());
+                pageList.addAll(developmentPages.values());
             }
+            return pageList;
+        }
+
+        @Override
+        public ParsedGuidePage get(int index) {
+            return getPageList().get(index);
+        }
+
+        @Override
+        public int size() {
+            return getPageList().size();
+        }
+    }
 
+    private void applyChanges(List<GuidePageChange> rawChanges) {
+        // One change per page, with the page data from before this batch
+        var changes = GuidePageChanges.resolve(rawChanges, defaultLanguage, LangUtil.getCurrentLanguage(),
+            this.developmentPages);
+
+        var developmentPages = new HashMap<>(this.developmentPages);
+        for (var change : changes) {
             var newPage = change.newPage();
             if (newPage != null) {
-                developmentPages.put(pageId, newPage);
+                developmentPages.put(change.pageId(), newPage);
             } else {
-                developmentPages.remove(pageId);
+                developmentPages.remove(change.pageId());
             }
-
-            changes.set(i, new GuidePageChange(change.language(), pageId, initialPages.get(pageId), newPage));
         }
-        changes.removeIf(Objects::isNull); // Remove changes not relevant for the current language
+        this.developmentPages = Map.copyOf(developmentPages);
+
+        invalidateCompiledPages(changes);
 
-        // Allow indices to rebuild
-        var allPages = new ArrayList<ParsedGuidePage>(pages.size() + developmentPages.size());
-        allPages.addAll(pages.values());
-        allPages.addAll(developmentPages.values());
+        // Allow indices to rebuild. Incremental updates usually don't need all pages, so only collect them on demand.
+        var allPages = new AllPagesList();
         for (var index : indices.values()) {
             if (index.supportsUpdate()) {
                 index.update(allPages, changes);
@@ -324,8 +507,14 @@ public final class MutableGuide implements Guide {
             }
         }
 
-        // Rebuild navigation
-        this.navigationTree = buildNavigation();
+        // Update navigation. Removing a development page reveals the page from resource packs again, if any.
+        var navigationChanges = new ArrayList<GuidePageChange>(changes.size());
+        for (var change : changes) {
+            var pageId = change.pageId();
+            var page = developmentPages.getOrDefault(pageId, pages.get(pageId));
+            navigationChanges.add(new GuidePageChange(change.language(), pageId, change.oldPage(), page));
+        }
+        this.navigationTree = navigationTree.applyChanges(navigationChanges);
 
         // Reload the current page if it has been changed
         if (Minecraft.getInstance().screen instanceof GuideScreen guideScreen) {
@@ -339,6 +528,23 @@ public final class MutableGuide implements Guide {
         }
     }
 
+    /**
+     * Changes to the content of a page only affect the page itself. Adding or removing pages, or changing their
+     * frontmatter, can affect other pages through links, navigation and indices.
+     */
+    private void invalidateCompiledPages(List<GuidePageChange> changes) {
+        for (var change : changes) {
+            var oldPage = change.oldPage();
+            var newPage = change.newPage();
+            if (oldPage == null || newPage == null || !oldPage.getFrontmatter()
+                .equals(newPage.getFrontmatter())) {
+                compiledPages.clear();
+                return;
+            }
+            compiledPages.remove(change.pageId());
+        }
+    }
+
     private NavigationTree buildNavigation() {
         if (developmentPages.isEmpty()) {
             return NavigationTree.build(pages.values());
@@ -367,13 +573,16 @@ public final class MutableGuide implements Guide {
 
     public void setPages(Map<ResourceLocation, ParsedGuidePage> pages) {
         this.pages = Map.copyOf(pages);
+        compiledPages.clear();
 
         if (watcher != null) {
             watcher.clearChanges(); // Since we'll load them all now, ignore all changes up to now
 
+            var developmentPages = new HashMap<>(this.developmentPages);
             for (var page : watcher.loadAll(defaultLanguage)) {
                 developmentPages.put(page.getId(), page);
             }
+            this.developmentPages = Map.copyOf(developmentPages);
         }
 
         rebuildIndices();
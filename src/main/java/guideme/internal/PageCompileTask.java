@@ -0,0 +1,117 @@
+package guideme.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import net.minecraft.client.Minecraft;
+
+import guideme.GuidePage;
+
+/**
+ * A page that {@link MutableGuide} compiles in the background.
+ * <p>
+ * Tag compilers that have to run on the main thread are normally queued as client tasks. While the page is only being
+ * prefetched, they are deferred instead, until the prefetcher runs them via {@link #runDeferredWork()} while the guide
+ * screen is idle. A prefetch can also be cancelled, which stops the compilation before the next tag compiler. Once the
+ * page is requested to be shown, it is no longer a prefetch, and the compiled page is no longer put into the compiled
+ * page cache, since it then belongs to whoever requested it.
+ */
+public final class PageCompileTask implements Executor {
+    private final Deque<Runnable> deferredWork = new ArrayDeque<>();
+
+    private boolean prefetch;
+
+    private volatile boolean cancelled;
+
+    CompletableFuture<GuidePage> future;
+
+    PageCompileTask(boolean prefetch) {
+        this.prefetch = prefetch;
+    }
+
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    synchronized boolean isPrefetch() {
+        return prefetch;
+    }
+
+    boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Runs one tag compiler that the compilation is waiting for.
+     *
+     * @return false if there was nothing to run.
+     */
+    public boolean runDeferredWork() {
+        Runnable work;
+        synchronized (this) {
+            work = deferredWork.poll();
+        }
+        if (work == null) {
+            return false;
+        }
+        work.run();
+        return true;
+    }
+
+    /**
+     * Stops the compilation if the page is only being prefetched.
+     */
+    public void cancel() {
+        List<Runnable> work;
+        synchronized (this) {
+            if (!prefetch) {
+                return;
+            }
+            cancelled = true;
+            work = new ArrayList<>(deferredWork);
+            deferredWork.clear();
+        }
+        // The compilation is waiting for this work, which now fails right away
+        work.forEach(Runnable::run);
+    }
+
+    /**
+     * Turns a prefetch into a compilation that someone is waiting for, so it is neither deferred nor cancelled anymore.
+     *
+     * @return false if the prefetch has already been cancelled, and can't be taken over.
+     */
+    boolean require() {
+        List<Runnable> work;
+        synchronized (this) {
+            if (cancelled) {
+                return false;
+            }
+            prefetch = false;
+            work = new ArrayList<>(deferredWork);
+            deferredWork.clear();
+        }
+        work.forEach(Minecraft.getInstance()::execute);
+        return true;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        synchronized (this) {
+            if (prefetch && !cancelled) {
+                deferredWork.add(command);
+                return;
+            }
+        }
+
+        if (cancelled) {
+            command.run(); // Fails right away
+        } else {
+            Minecraft.getInstance()
+                .execute(command);
+        }
+    }
+}
@@ -0,0 +1,446 @@
+package guideme.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.minecraft.resources.ResourceLocation;
+import net.neoforged.fml.ModList;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.hash.Hashing;
+
+import guideme.compiler.Frontmatter;
+import guideme.compiler.FrontmatterNavigation;
+import guideme.compiler.FrontmatterScanner;
+import guideme.compiler.PageCompiler;
+import guideme.compiler.ParsedGuidePage;
+import guideme.libs.mdast.MdAstSerializer;
+import guideme.libs.mdast.model.MdAstRoot;
+
+/**
+ * Persistent on-disk cache of {@link ParsedGuidePage parsed pages}, which allows resource reloads to skip parsing pages
+ * whose content did not change.
+ * <p>
+ * Pages returned by this cache are loaded lazily. Only their frontmatter is read eagerly, either from the cache entry or
+ * by {@link FrontmatterScanner scanning} the page. The syntax tree is read from the cache entry once it is needed, or
+ * parsed and written to the cache if there is no entry yet.
+ * <p>
+ * Entries are keyed by guide, page, language, source pack and a hash of the raw page content. The version of the mod
+ * that owns a guide is part of the key too, so updating that mod invalidates its entries. Updating GuideME itself
+ * invalidates the whole cache. Once the cache grows larger than its size limit, the least recently used entries are
+ * deleted.
+ */
+final class ParsedPageCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ParsedPageCache.class);
+
+    /**
+     * Incremented when the layout of cache entries changes.
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    private static final String VERSION_FILE = "version";
+
+    private static final String ENTRY_SUFFIX = ".bin";
+
+    // Type tags for values in the frontmatter
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte BOOLEAN = 2;
+    private static final byte INT = 3;
+    private static final byte LONG = 4;
+    private static final byte DOUBLE = 5;
+    private static final byte LIST = 6;
+    private static final byte MAP = 7;
+
+    private final Path folder;
+
+    private final Map<String, String> modVersions = new ConcurrentHashMap<>();
+
+    private ParsedPageCache(Path folder) {
+        this.folder = folder;
+    }
+
+    /**
+     * Opens the cache in the given folder and clears it if it was written by a different version of GuideME.
+     */
+    public static ParsedPageCache open(Path folder) {
+        var fingerprint = FORMAT_VERSION + "-" + MdAstSerializer.FORMAT_VERSION + "-" + getModVersion(GuideME.MOD_ID);
+        var cache = new ParsedPageCache(folder);
+
+        var versionFile = folder.resolve(VERSION_FILE);
+        try {
+            String existingFingerprint = null;
+            if (Files.isRegularFile(versionFile)) {
+                existingFingerprint = Files.readString(versionFile, StandardCharsets.UTF_8);
+            }
+            if (!fingerprint.equals(existingFingerprint)) {
+                if (existingFingerprint != null) {
+                    LOG.info("Clearing guide page cache created by a different version of GuideME");
+                }
+                cache.clear();
+                Files.createDirectories(folder);
+                Files.writeString(versionFile, fingerprint, StandardCharsets.UTF_8);
+            }
+        } catch (IOException e) {
+            LOG.error("Failed to initialize guide page cache in {}", folder, e);
+        }
+
+        return cache;
+    }
+
+    /**
+     * Returns the cached parsed page for the given raw page content. If it is not cached, only its frontmatter is read
+     * for now, and it is stored in the cache once its syntax tree is first needed.
+     *
+     * @param positions Whether the syntax tree keeps its source positions. Trees with and without positions are cached
+     *                  separately.
+     */
+    public ParsedGuidePage parse(ResourceLocation guideId, String sourcePack, String language, ResourceLocation pageId,
+        byte[] content, boolean positions) {
+        var entryPath = getEntryPath(guideId, sourcePack, language, pageId, content, positions);
+
+        var cachedPage = read(entryPath, guideId, sourcePack, language, pageId, content, positions);
+        if (cachedPage != null) {
+            return cachedPage;
+        }
+
+        var source = normalizeSource(content);
+        var frontmatter = FrontmatterScanner.scan(pageId, source);
+        return createLazyPage(entryPath, guideId, source, frontmatter, sourcePack, language, pageId, positions);
+    }
+
+    private ParsedGuidePage createLazyPage(Path entryPath, ResourceLocation guideId, String source,
+        Frontmatter frontmatter, String sourcePack, String language, ResourceLocation pageId, boolean positions) {
+        return new ParsedGuidePage(
+            sourcePack,
+            pageId,
+            source,
+            () -> readAst(entryPath, guideId, source, frontmatter, sourcePack, language, pageId, positions),
+            frontmatter,
+            language);
+    }
+
+    /**
+     * Deletes the least recently used entries until the total size of the cache is below the given limit.
+     */
+    public void evict(long maxSize) {
+        record Entry(Path path, long size, FileTime lastUsed) {}
+
+        var entries = new ArrayList<Entry>();
+        long totalSize = 0;
+        try (var files = Files.newDirectoryStream(folder, "*" + ENTRY_SUFFIX)) {
+            for (var file : files) {
+                try {
+                    var size = Files.size(file);
+                    entries.add(new Entry(file, size, Files.getLastModifiedTime(file)));
+                    totalSize += size;
+                } catch (NoSuchFileException ignored) {
+                    // Deleted concurrently
+                }
+            }
+        } catch (IOException e) {
+            LOG.error("Failed to list guide page cache entries in {}", folder, e);
+            return;
+        }
+
+        if (totalSize <= maxSize) {
+            return;
+        }
+
+        entries.sort(Comparator.comparing(Entry::lastUsed));
+        var evicted = 0;
+        for (var entry : entries) {
+            if (totalSize <= maxSize) {
+                break;
+            }
+            try {
+                Files.deleteIfExists(entry.path());
+                totalSize -= entry.size();
+                evicted++;
+            } catch (IOException e) {
+                LOG.warn("Failed to delete guide page cache entry {}", entry.path(), e);
+            }
+        }
+        LOG.debug("Evicted {} entries from the guide page cache", evicted);
+    }
+
+    /**
+     * Deletes all entries.
+     */
+    public void clear() throws IOException {
+        if (!Files.isDirectory(folder)) {
+            return;
+        }
+        try (var files = Files.newDirectoryStream(folder)) {
+            for (var file : files) {
+                if (Files.isRegularFile(file)) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    private Path getEntryPath(ResourceLocation guideId, String sourcePack, String language, ResourceLocation pageId,
+        byte[] content, boolean positions) {
+        var hash = Hashing.sha256()
+            .newHasher()
+            .putString(guideId.toString(), StandardCharsets.UTF_8)
+            .putByte((byte) 0)
+            .putString(getOwnerVersion(guideId), StandardCharsets.UTF_8)
+            .putByte((byte) 0)
+            .putString(pageId.toString(), StandardCharsets.UTF_8)
+            .putByte((byte) 0)
+            .putString(language, StandardCharsets.UTF_8)
+            .putByte((byte) 0)
+            .putString(sourcePack, StandardCharsets.UTF_8)
+            .putByte((byte) 0)
+            .putBoolean(positions)
+            .putBytes(content)
+            .hash();
+        return folder.resolve(hash + ENTRY_SUFFIX);
+    }
+
+    /**
+     * The version of the mod that owns the guide. Extensions such as tag compilers are shipped by that mod, so updating
+     * it has to invalidate the pages of its guide.
+     */
+    private String getOwnerVersion(ResourceLocation guideId) {
+        return modVersions.computeIfAbsent(guideId.getNamespace(), ParsedPageCache::getModVersion);
+    }
+
+    private static String getModVersion(String modId) {
+        return ModList.get()
+            .getModContainerById(modId)
+            .map(
+                mc -> mc.getModInfo()
+                    .getVersion()
+                    .toString())
+            .orElse("");
+    }
+
+    @Nullable
+    private ParsedGuidePage read(Path entryPath, ResourceLocation guideId, String sourcePack, String language,
+        ResourceLocation pageId, byte[] content, boolean positions) {
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(entryPath)))) {
+            if (!readKey(in, guideId, sourcePack, language, pageId)) {
+                return null;
+            }
+
+            var frontmatter = readFrontmatter(in);
+            var source = normalizeSource(content);
+
+            // Mark the entry as recently used
+            Files.setLastModifiedTime(entryPath, FileTime.fromMillis(System.currentTimeMillis()));
+
+            return createLazyPage(entryPath, guideId, source, frontmatter, sourcePack, language, pageId, positions);
+        } catch (NoSuchFileException ignored) {
+            return null;
+        } catch (Exception e) {
+            LOG.warn("Failed to read guide page cache entry {} for {}", entryPath, pageId, e);
+            return null;
+        }
+    }
+
+    /**
+     * Reads the syntax tree of a lazily loaded page from its entry. If there is no entry, i.e. because the page was not
+     * cached yet or the entry was evicted in the meantime, the page is parsed and the entry is written.
+     */
+    private MdAstRoot readAst(Path entryPath, ResourceLocation guideId, String source, Frontmatter frontmatter,
+        String sourcePack, String language, ResourceLocation pageId, boolean positions) {
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(entryPath)))) {
+            if (readKey(in, guideId, sourcePack, language, pageId)) {
+                readFrontmatter(in);
+                return MdAstSerializer.read(in);
+            }
+        } catch (NoSuchFileException ignored) {} catch (Exception e) {
+            LOG.warn("Failed to read guide page cache entry {} for {}", entryPath, pageId, e);
+        }
+
+        var astRoot = PageCompiler.parseAst(sourcePack, language, pageId, source, positions);
+        write(entryPath, guideId, pageId, language, sourcePack, frontmatter, astRoot);
+        return astRoot;
+    }
+
+    private static String normalizeSource(byte[] content) {
+        return PageCompiler.normalizeLineEndings(new String(content, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * The key is repeated in the entry to guard against hash collisions.
+     */
+    private static boolean readKey(DataInput in, ResourceLocation guideId, String sourcePack, String language,
+        ResourceLocation pageId) throws IOException {
+        return in.readUTF()
+            .equals(guideId.toString())
+            && in.readUTF()
+                .equals(pageId.toString())
+            && in.readUTF()
+                .equals(language)
+            && in.readUTF()
+                .equals(sourcePack);
+    }
+
+    private void write(Path entryPath, ResourceLocation guideId, ResourceLocation pageId, String language,
+        String sourcePack, Frontmatter frontmatter, MdAstRoot astRoot) {
+        Path tempPath = null;
+        try {
+            Files.createDirectories(folder);
+            tempPath = Files.createTempFile(folder, "entry", ".tmp");
+            try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempPath)))) {
+                out.writeUTF(guideId.toString());
+                out.writeUTF(pageId.toString());
+                out.writeUTF(language);
+                out.writeUTF(sourcePack);
+                writeFrontmatter(out, frontmatter);
+                MdAstSerializer.write(astRoot, out);
+            }
+            try {
+                Files.move(tempPath, entryPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, entryPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (Exception e) {
+            LOG.warn("Failed to write guide page cache entry for {}", pageId, e);
+            if (tempPath != null) {
+                try {
+                    Files.deleteIfExists(tempPath);
+                } catch (IOException ignored) {}
+            }
+        }
+    }
+
+    private static void writeFrontmatter(DataOutput out, Frontmatter frontmatter) throws IOException {
+        var navigation = frontmatter.navigationEntry();
+        out.writeBoolean(navigation != null);
+        if (navigation != null) {
+            out.writeUTF(navigation.title());
+            writeNullableId(out, navigation.parent());
+            out.writeInt(navigation.position());
+            writeNullableId(out, navigation.iconItemId());
+            writeValue(out, navigation.iconComponents());
+        }
+        writeValue(out, frontmatter.additionalProperties());
+    }
+
+    private static Frontmatter readFrontmatter(DataInput in) throws IOException {
+        FrontmatterNavigation navigation = null;
+        if (in.readBoolean()) {
+            var title = in.readUTF();
+            var parent = readNullableId(in);
+            var position = in.readInt();
+            var iconItemId = readNullableId(in);
+            var iconComponents = (Map<?, ?>) readValue(in);
+            navigation = new FrontmatterNavigation(title, parent, position, iconItemId, iconComponents);
+        }
+
+        @SuppressWarnings("unchecked")
+        var additionalProperties = (Map<String, Object>) Objects.requireNonNull(readValue(in));
+        // Like parsed frontmatter, this keeps the key order and null values of the YAML map
+        return new Frontmatter(navigation, Collections.unmodifiableMap(additionalProperties));
+    }
+
+    private static void writeNullableId(DataOutput out, @Nullable ResourceLocation id) throws IOException {
+        out.writeBoolean(id != null);
+        if (id != null) {
+            out.writeUTF(id.toString());
+        }
+    }
+
+    @Nullable
+    private static ResourceLocation readNullableId(DataInput in) throws IOException {
+        return in.readBoolean() ? ResourceLocation.parse(in.readUTF()) : null;
+    }
+
+    /**
+     * Writes the subset of YAML values we expect in frontmatter. Pages using other value types are not cached.
+     */
+    private static void writeValue(DataOutput out, @Nullable Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String string) {
+            out.writeByte(STRING);
+            out.writeUTF(string);
+        } else if (value instanceof Boolean bool) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean(bool);
+        } else if (value instanceof Integer integer) {
+            out.writeByte(INT);
+            out.writeInt(integer);
+        } else if (value instanceof Long longValue) {
+            out.writeByte(LONG);
+            out.writeLong(longValue);
+        } else if (value instanceof Double doubleValue) {
+            out.writeByte(DOUBLE);
+            out.writeDouble(doubleValue);
+        } else if (value instanceof List<?>list) {
+            out.writeByte(LIST);
+            out.writeInt(list.size());
+            for (var element : list) {
+                writeValue(out, element);
+            }
+        } else if (value instanceof Map<?, ?>map) {
+            out.writeByte(MAP);
+            out.writeInt(map.size());
+            for (var entry : map.entrySet()) {
+                writeValue(out, entry.getKey());
+                writeValue(out, entry.getValue());
+            }
+        } else {
+            throw new IOException("Unsupported frontmatter value type: " + value.getClass());
+        }
+    }
+
+    @Nullable
+    private static Object readValue(DataInput in) throws IOException {
+        var type = in.readByte();
+        return switch (type) {
+            case NULL -> null;
+            case STRING -> in.readUTF();
+            case BOOLEAN -> in.readBoolean();
+            case INT -> in.readInt();
+            case LONG -> in.readLong();
+            case DOUBLE -> in.readDouble();
+            case LIST -> {
+                var size = in.readInt();
+                var list = new ArrayList<>(size);
+                for (var i = 0; i < size; i++) {
+                    list.add(readValue(in));
+                }
+                yield list;
+            }
+            case MAP -> {
+                var size = in.readInt();
+                var map = new LinkedHashMap<>(size);
+                for (var i = 0; i < size; i++) {
+                    map.put(readValue(in), readValue(in));
+                }
+                yield map;
+            }
+            default -> throw new IOException("Unknown frontmatter value type " + type);
+        };
+    }
+}
@@ -11,6 +11,7 @@ import net.minecraft.client.input.MouseButtonEvent;
 import net.minecraft.client.resources.sounds.SimpleSoundInstance;
 import net.minecraft.client.sounds.SoundManager;
 import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.Mth;
 import net.minecraft.world.phys.Vec2;
 
@@ -50,6 +51,9 @@ public class GuideNavBar extends AbstractWidget {
 
     private final List<Row> rows = new ArrayList<>();
 
+    @Nullable
+    private Row hoveredRow;
+
     private final GuideUiHost screen;
 
     private int scrollOffset;
@@ -309,12 +313,14 @@ public class GuideNavBar extends AbstractWidget {
 
     private void updateMousePos(double x, double y) {
         var vpPos = getViewportPoint(x, y);
+        hoveredRow = null;
         for (Row row : rows) {
             if (!row.isVisible()) {
                 continue;
             }
 
             if (vpPos != null && row.contains(vpPos.x(), vpPos.y())) {
+                hoveredRow = row;
                 row.paragraph.onMouseEnter(row.span);
             } else {
                 row.paragraph.onMouseLeave();
@@ -327,6 +333,7 @@ public class GuideNavBar extends AbstractWidget {
             .getNavigationTree();
         // Save Freeze expanded / scroll position
         this.rows.clear();
+        this.hoveredRow = null;
 
         for (var rootNode : this.navTree.getRootNodes()) {
             var row = new Row(rootNode, null);
@@ -404,6 +411,17 @@ public class GuideNavBar extends AbstractWidget {
         }
     }
 
+    /**
+     * @return The page of the navigation row under the mouse, if the navigation bar is open.
+     */
+    @Nullable
+    public ResourceLocation getHoveredPageId() {
+        if (hoveredRow == null || state != State.OPEN || !hoveredRow.node.hasPage()) {
+            return null;
+        }
+        return hoveredRow.node.pageId();
+    }
+
     public boolean isPinned() {
         return pinned;
     }
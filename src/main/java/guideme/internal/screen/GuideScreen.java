@@ -1,6 +1,9 @@
 package guideme.internal.screen;
 
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphics;
@@ -33,8 +36,11 @@ import guideme.document.block.LytHeading;
 import guideme.document.block.LytParagraph;
 import guideme.document.flow.LytFlowAnchor;
 import guideme.document.flow.LytFlowContent;
+import guideme.document.flow.LytFlowLink;
 import guideme.document.flow.LytFlowSpan;
+import guideme.internal.GuideMEClient;
 import guideme.internal.GuidebookText;
+import guideme.internal.MutableGuide;
 import guideme.layout.LayoutContext;
 import guideme.layout.MinecraftFontMetrics;
 import guideme.render.GuiAssets;
@@ -52,6 +58,16 @@ public class GuideScreen extends DocumentScreen implements GuideUiHost {
     private final Guide guide;
 
     private GuidePage currentPage;
+
+    /**
+     * The page being compiled in the background while a placeholder is shown as the {@link #currentPage}.
+     */
+    @Nullable
+    private CompletableFuture<GuidePage> pendingPage;
+
+    @Nullable
+    private final PagePrefetcher prefetcher;
+
     private final LytParagraph pageTitle;
 
     private final NavigationToolbar toolbar;
@@ -82,6 +98,13 @@ public class GuideScreen extends DocumentScreen implements GuideUiHost {
 
         navbar = new GuideNavBar(this);
 
+        if (guide instanceof MutableGuide mutableGuide && GuideMEClient.instance()
+            .isPrefetchPages()) {
+            prefetcher = new PagePrefetcher(mutableGuide);
+        } else {
+            prefetcher = null;
+        }
+
         loadPageAndScrollTo(anchor);
     }
 
@@ -163,7 +186,13 @@ public class GuideScreen extends DocumentScreen implements GuideUiHost {
 
         toolbar.update();
 
+        processPendingPage();
         processPendingScrollTo();
+
+        if (prefetcher != null && pendingPage == null) {
+            prefetcher.setHoveredPage(getHoveredPageLink());
+            prefetcher.tick();
+        }
     }
 
     @Override
@@ -179,12 +208,35 @@ public class GuideScreen extends DocumentScreen implements GuideUiHost {
         return false;
     }
 
+    /**
+     * @return The page behind the link or navigation row under the mouse.
+     */
+    @Nullable
+    private ResourceLocation getHoveredPageLink() {
+        var navbarPageId = navbar.getHoveredPageId();
+        if (navbarPageId != null) {
+            return navbarPageId;
+        }
+
+        var hoveredElement = currentPage.document()
+            .getHoveredElement();
+        if (hoveredElement != null) {
+            for (var content = hoveredElement.content(); content != null; content = content.getFlowParent()) {
+                if (content instanceof LytFlowLink link && link.getPageLink() != null) {
+                    return link.getPageLink()
+                        .pageId();
+                }
+            }
+        }
+        return null;
+    }
+
     /**
      * If a scroll-to command is queued, this processes that.
      */
     private void processPendingScrollTo() {
-        if (pendingScrollToAnchor == null) {
-            return;
+        if (pendingScrollToAnchor == null || pendingPage != null) {
+            return; // Keep the anchor around until the actual page has been loaded
         }
 
         var anchor = pendingScrollToAnchor;
@@ -213,6 +265,8 @@ public class GuideScreen extends DocumentScreen implements GuideUiHost {
     @Override
     public void scaledRender(GuiGraphics guiGraphics, RenderContext context, int mouseX, int mouseY,
         float partialTick) {
+        processPendingPage();
+
         renderBlurredBackground(guiGraphics);
 
         context.fillIcon(screenRect, GuiAssets.GUIDE_BACKGROUND, SymbolicColor.GUIDE_SCREEN_BACKGROUND);
@@ -346,14 +400,108 @@ public class GuideScreen extends DocumentScreen implements GuideUiHost {
 
     private void loadPage(ResourceLocation pageId) {
         GuidePageTexture.releaseUsedTextures();
-        var page = guide.getParsedPage(pageId);
+        cancelPendingPage();
+
+        // The title is moved out of the document and the document is laid out for this screen, so it must not be
+        // shared with the guide's page cache
+        GuidePage page;
+        if (guide instanceof MutableGuide mutableGuide) {
+            if (GuideMEClient.instance()
+                .isAsyncPageCompilation()) {
+                // Requested before prefetching is cancelled, so that a prefetch of this page is taken over
+                var future = mutableGuide.takePageAsync(pageId);
+                cancelPrefetching();
+                if (future != null && !future.isDone()) {
+                    pendingPage = future;
+                    showPage(buildLoadingPage(pageId));
+                    return;
+                }
+                page = future != null ? future.join() : null;
+            } else {
+                cancelPrefetching();
+                page = mutableGuide.takePage(pageId);
+            }
+        } else {
+            var parsedPage = guide.getParsedPage(pageId);
+            page = parsedPage != null ? PageCompiler.compile(guide, guide.getExtensions(), parsedPage) : null;
+        }
 
         if (page == null) {
             // Build a "not found" page dynamically
-            page = buildNotFoundPage(pageId);
+            page = PageCompiler.compile(guide, guide.getExtensions(), buildNotFoundPage(pageId));
+        }
+
+        showPage(page);
+        startPrefetching(pageId);
+    }
+
+    /**
+     * Swaps in the page that was compiled in the background once it is ready.
+     */
+    private void processPendingPage() {
+        if (pendingPage == null || !pendingPage.isDone()) {
+            return;
         }
 
-        currentPage = PageCompiler.compile(guide, guide.getExtensions(), page);
+        var future = pendingPage;
+        var pageId = currentPage.id();
+        pendingPage = null;
+
+        GuidePage page;
+        try {
+            page = future.join();
+        } catch (CancellationException e) {
+            retryPendingPage(pageId);
+            return;
+        } catch (CompletionException e) {
+            var cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof CancellationException) {
+                retryPendingPage(pageId);
+                return;
+            }
+            LOG.error("Failed to compile page {}", pageId, cause);
+            page = buildErrorPage(pageId, cause);
+        }
+
+        showPage(page);
+        startPrefetching(pageId);
+    }
+
+    /**
+     * The compilation of the page was cancelled before it could be shown, so keep showing the placeholder and request
+     * the page again.
+     */
+    private void retryPendingPage(ResourceLocation pageId) {
+        if (guide instanceof MutableGuide mutableGuide) {
+            pendingPage = mutableGuide.takePageAsync(pageId);
+        }
+        if (pendingPage == null) {
+            showPage(PageCompiler.compile(guide, guide.getExtensions(), buildNotFoundPage(pageId)));
+        }
+    }
+
+    private void startPrefetching(ResourceLocation pageId) {
+        if (prefetcher != null) {
+            prefetcher.startVisit(pageId);
+        }
+    }
+
+    private void cancelPrefetching() {
+        if (prefetcher != null) {
+            prefetcher.cancel();
+        }
+    }
+
+    private void cancelPendingPage() {
+        if (pendingPage != null) {
+            // The compilation itself still finishes and ends up in the guide's page cache
+            pendingPage.cancel(false);
+            pendingPage = null;
+        }
+    }
+
+    private void showPage(GuidePage page) {
+        currentPage = page;
 
         // Find and pull out the first heading
         pageTitle.clearContent();
@@ -380,6 +528,50 @@ public class GuideScreen extends DocumentScreen implements GuideUiHost {
         return List.of();
     }
 
+    /**
+     * Builds the placeholder that is shown while a page is being compiled in the background.
+     */
+    private GuidePage buildLoadingPage(ResourceLocation pageId) {
+        var document = new LytDocument();
+
+        var parsedPage = guide.getParsedPage(pageId);
+        var navigationEntry = parsedPage != null ? parsedPage.getFrontmatter()
+            .navigationEntry() : null;
+        if (navigationEntry != null) {
+            var heading = new LytHeading();
+            heading.setDepth(1);
+            heading.appendText(navigationEntry.title());
+            document.append(heading);
+        }
+
+        var paragraph = new LytParagraph();
+        paragraph.appendComponent(GuidebookText.LoadingPage.text());
+        document.append(paragraph);
+
+        var sourcePack = parsedPage != null ? parsedPage.getSourcePack() : pageId.getNamespace();
+        return new GuidePage(sourcePack, pageId, document);
+    }
+
+    /**
+     * Builds the page that is shown in place of a page whose compilation failed.
+     */
+    private GuidePage buildErrorPage(ResourceLocation pageId, Throwable error) {
+        var document = new LytDocument();
+
+        var heading = new LytHeading();
+        heading.setDepth(1);
+        heading.appendText("COMPILE ERROR");
+        document.append(heading);
+
+        var paragraph = new LytParagraph();
+        paragraph.appendText("Page \"" + pageId + "\" could not be compiled: \n" + error);
+        document.append(paragraph);
+
+        var parsedPage = guide.getParsedPage(pageId);
+        var sourcePack = parsedPage != null ? parsedPage.getSourcePack() : pageId.getNamespace();
+        return new GuidePage(sourcePack, pageId, document);
+    }
+
     private ParsedGuidePage buildNotFoundPage(ResourceLocation pageId) {
         String pageSource = "# Page not Found\n" + "\n" + "Page \"" + pageId + "\" could not be found.";
 
@@ -389,6 +581,8 @@ public class GuideScreen extends DocumentScreen implements GuideUiHost {
     @Override
     public void removed() {
         super.removed();
+        cancelPendingPage();
+        cancelPrefetching();
         GuidePageTexture.releaseUsedTextures();
     }
 
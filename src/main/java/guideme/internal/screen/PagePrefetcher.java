@@ -0,0 +1,154 @@
+package guideme.internal.screen;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import net.minecraft.resources.ResourceLocation;
+
+import org.jetbrains.annotations.Nullable;
+
+import guideme.internal.MutableGuide;
+import guideme.internal.PageCompileTask;
+import guideme.navigation.NavigationNode;
+
+/**
+ * Compiles pages that the player is likely to open next in the background, so that they are already in the compiled
+ * page cache of the guide when they are opened.
+ * <p>
+ * Candidates are the page behind a hovered link or navigation row, followed by the neighbours of the current page in
+ * the navigation tree. Its children are the pages listed by <code>&lt;SubPages&gt;</code>. Only one page is compiled at
+ * a time, at most {@link #MAX_PAGES_PER_VISIT} neighbours are prefetched per visited page, and pages are only prefetched
+ * if they fit into the free space of the cache, so prefetching never evicts pages that were actually viewed.
+ * <p>
+ * Tag compilers of the prefetched page that have to run on the main thread are run by {@link #tick()}, one per tick, so
+ * prefetching never stalls the client for long.
+ */
+final class PagePrefetcher {
+
+    private static final int MAX_PAGES_PER_VISIT = 8;
+
+    private final MutableGuide guide;
+
+    private final Deque<ResourceLocation> queue = new ArrayDeque<>();
+
+    private final Set<ResourceLocation> requested = new HashSet<>();
+
+    @Nullable
+    private ResourceLocation hoveredPage;
+
+    @Nullable
+    private PageCompileTask running;
+
+    private int remainingPages;
+
+    PagePrefetcher(MutableGuide guide) {
+        this.guide = guide;
+    }
+
+    /**
+     * Starts prefetching the neighbours of the page that is now shown, dropping anything that was queued for the
+     * previous page.
+     */
+    void startVisit(ResourceLocation pageId) {
+        cancel();
+
+        requested.add(pageId);
+        remainingPages = MAX_PAGES_PER_VISIT;
+
+        var navigationTree = guide.getNavigationTree();
+        var node = navigationTree.getNodeById(pageId);
+        if (node != null) {
+            for (var child : node.children()) {
+                enqueue(child);
+            }
+        }
+        enqueueSiblings(null, navigationTree.getRootNodes(), pageId);
+    }
+
+    /**
+     * Sets the page that the player is currently hovering a link to. It takes priority over other candidates.
+     */
+    void setHoveredPage(@Nullable ResourceLocation pageId) {
+        if (pageId != null && requested.add(pageId)) {
+            hoveredPage = pageId;
+        }
+    }
+
+    /**
+     * Drops all queued pages and stops compiling the current one, unless it has been requested to be shown since.
+     */
+    void cancel() {
+        if (running != null) {
+            running.cancel();
+            running = null;
+        }
+        queue.clear();
+        requested.clear();
+        hoveredPage = null;
+        remainingPages = 0;
+    }
+
+    /**
+     * Runs the work that the current compilation is waiting for on the main thread, or starts compiling the next
+     * candidate once it has finished.
+     */
+    void tick() {
+        if (running != null && !running.isDone()) {
+            running.runDeferredWork();
+            return;
+        }
+        running = null;
+
+        if (hoveredPage != null) {
+            running = guide.prefetchPage(hoveredPage);
+            hoveredPage = null;
+            if (running != null) {
+                return;
+            }
+        }
+
+        while (remainingPages > 0 && !queue.isEmpty()) {
+            running = guide.prefetchPage(queue.removeFirst());
+            if (running != null) {
+                remainingPages--;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Finds the page in the navigation tree and queues the pages next to it, followed by its parent.
+     */
+    private boolean enqueueSiblings(@Nullable NavigationNode parent, List<NavigationNode> nodes,
+        ResourceLocation pageId) {
+        for (int i = 0; i < nodes.size(); i++) {
+            var node = nodes.get(i);
+            if (pageId.equals(node.pageId())) {
+                if (i + 1 < nodes.size()) {
+                    enqueue(nodes.get(i + 1));
+                }
+                if (i > 0) {
+                    enqueue(nodes.get(i - 1));
+                }
+                if (parent != null) {
+                    enqueue(parent);
+                }
+                return true;
+            }
+
+            if (enqueueSiblings(node, node.children(), pageId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void enqueue(NavigationNode node) {
+        if (node.hasPage() && node.pageId() != null && requested.add(node.pageId())) {
+            queue.addLast(node.pageId());
+        }
+    }
+}
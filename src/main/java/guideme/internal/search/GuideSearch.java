@@ -50,7 +50,8 @@ import guideme.document.DefaultStyles;
 import guideme.document.flow.LytFlowContent;
 import guideme.document.flow.LytFlowSpan;
 import guideme.internal.util.LangUtil;
-import guideme.libs.mdast.model.MdAstHeading;
+import guideme.libs.mdast.MdAstKind;
+import guideme.libs.mdast.PackedMdAst;
 import guideme.libs.unist.UnistNode;
 
 /**
@@ -305,8 +306,9 @@ public class GuideSearch implements AutoCloseable {
 
     @Nullable
     private Document createPageDocument(Guide guide, ParsedGuidePage page) {
-        var pageText = getSearchableText(guide, page);
-        var pageTitle = getPageTitle(guide, page);
+        var tree = page.getPackedAst();
+        var pageText = getSearchableText(guide, page, tree);
+        var pageTitle = getPageTitle(guide, page, tree);
 
         var searchLang = getLuceneLanguageFromMinecraft(page.getLanguage());
 
@@ -347,7 +349,7 @@ public class GuideSearch implements AutoCloseable {
         return luceneLang;
     }
 
-    private static String getPageTitle(Guide guide, ParsedGuidePage page) {
+    private static String getPageTitle(Guide guide, ParsedGuidePage page, PackedMdAst tree) {
 
         // Navigation title in frontmatter wins
         var navigationEntry = page.getFrontmatter()
@@ -357,9 +359,9 @@ public class GuideSearch implements AutoCloseable {
         }
 
         // Find the first heading (same logic as in GuideScreen)
-        for (var child : page.getAstRoot()
-            .children()) {
-            if (child instanceof MdAstHeading heading && heading.depth == 1) {
+        for (var child = tree.firstChild(PackedMdAst.ROOT); child != PackedMdAst.NONE; child = tree
+            .nextSibling(child)) {
+            if (tree.kind(child) == MdAstKind.HEADING && tree.depth(child) == 1) {
                 var pageTitle = new StringBuilder();
                 var sink = new IndexingSink() {
 
@@ -373,7 +375,7 @@ public class GuideSearch implements AutoCloseable {
                         pageTitle.append(' ');
                     }
                 };
-                new PageIndexer(guide, guide.getExtensions(), page.getId()).indexContent(heading.children(), sink);
+                new PageIndexer(guide, guide.getExtensions(), page.getId()).indexChildren(tree, child, sink);
                 return pageTitle.toString();
             }
         }
@@ -382,7 +384,7 @@ public class GuideSearch implements AutoCloseable {
             .toString();
     }
 
-    private static String getSearchableText(Guide guide, ParsedGuidePage page) {
+    private static String getSearchableText(Guide guide, ParsedGuidePage page, PackedMdAst tree) {
         var searchableText = new StringBuilder();
 
         var sink = new IndexingSink() {
@@ -397,7 +399,7 @@ public class GuideSearch implements AutoCloseable {
                 searchableText.append('\n');
             }
         };
-        new PageIndexer(guide, guide.getExtensions(), page.getId()).index(page.getAstRoot(), sink);
+        new PageIndexer(guide, guide.getExtensions(), page.getId()).index(tree, sink);
         return searchableText.toString();
     }
 
@@ -7,6 +7,7 @@ import java.util.Map;
 
 import net.minecraft.resources.ResourceLocation;
 
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -17,7 +18,9 @@ import guideme.compiler.TagCompiler;
 import guideme.extensions.Extension;
 import guideme.extensions.ExtensionCollection;
 import guideme.extensions.ExtensionPoint;
+import guideme.libs.mdast.MdAstKind;
 import guideme.libs.mdast.MdAstYamlFrontmatter;
+import guideme.libs.mdast.PackedMdAst;
 import guideme.libs.mdast.gfm.model.GfmTable;
 import guideme.libs.mdast.gfmstrikethrough.MdAstDelete;
 import guideme.libs.mdast.mdx.model.MdxJsxElementFields;
@@ -37,6 +40,8 @@ import guideme.libs.mdast.model.MdAstRoot;
 import guideme.libs.mdast.model.MdAstStrong;
 import guideme.libs.mdast.model.MdAstText;
 import guideme.libs.mdast.model.MdAstThematicBreak;
+import guideme.libs.unist.UnistNode;
+import guideme.libs.unist.UnistPosition;
 
 public final class PageIndexer implements IndexingContext {
 
@@ -157,6 +162,113 @@ public final class PageIndexer implements IndexingContext {
         }
     }
 
+    /**
+     * Indexes a page from the compact form of its syntax tree. Only the elements handled by tag compilers are
+     * converted to the object form, which they are then indexed from.
+     */
+    public void index(PackedMdAst tree, IndexingSink sink) {
+        indexChildren(tree, PackedMdAst.ROOT, sink);
+    }
+
+    public void indexChildren(PackedMdAst tree, int node, IndexingSink sink) {
+        indexChildren(tree, node, new PackedNodeView(tree), sink);
+    }
+
+    private void indexChildren(PackedMdAst tree, int node, PackedNodeView view, IndexingSink sink) {
+        for (var child = tree.firstChild(node); child != PackedMdAst.NONE; child = tree.nextSibling(child)) {
+            indexNode(tree, child, view, sink);
+        }
+    }
+
+    private void indexNode(PackedMdAst tree, int node, PackedNodeView view, IndexingSink sink) {
+        switch (tree.kind(node)) {
+            case THEMATIC_BREAK, BREAK -> sink.appendBreak();
+            case LIST -> {
+                for (var item = tree.firstChild(node); item != PackedMdAst.NONE; item = tree.nextSibling(item)) {
+                    if (tree.kind(item) == MdAstKind.LIST_ITEM) {
+                        indexChildren(tree, item, view, sink);
+                    } else {
+                        LOG.warn("Cannot handle list content: {}", tree.toMdAst(item));
+                    }
+                }
+            }
+            case CODE, TEXT, INLINE_CODE -> sink.appendText(view.at(node), tree.value(node));
+            case HEADING, BLOCKQUOTE, PARAGRAPH, STRONG, EMPHASIS, DELETE -> indexChildren(tree, node, view, sink);
+            case YAML_FRONTMATTER -> {
+                // This is handled by compile directly
+            }
+            case TABLE -> {
+                for (var row = tree.firstChild(node); row != PackedMdAst.NONE; row = tree.nextSibling(row)) {
+                    for (var cell = tree.firstChild(row); cell != PackedMdAst.NONE; cell = tree.nextSibling(cell)) {
+                        indexChildren(tree, cell, view, sink);
+                    }
+                }
+            }
+            case LINK -> {
+                var title = tree.title(node);
+                if (title != null && !title.isEmpty()) {
+                    sink.appendText(view.at(node), title);
+                }
+                indexChildren(tree, node, view, sink);
+            }
+            case IMAGE -> {
+                var title = tree.title(node);
+                if (title != null && !title.isEmpty()) {
+                    sink.appendText(view.at(node), title);
+                }
+                var alt = tree.alt(node);
+                if (alt != null && !alt.isEmpty()) {
+                    sink.appendText(view.at(node), alt);
+                }
+            }
+            case MDX_JSX_FLOW_ELEMENT, MDX_JSX_TEXT_ELEMENT -> {
+                var name = tree.name(node);
+                var compiler = tagCompilers.get(name);
+                if (compiler == null) {
+                    LOG.warn("Unhandled custom MDX element in guide search indexing: {}", name);
+                } else {
+                    // Tag compilers work on the object form of their element
+                    compiler.index(this, (MdxJsxElementFields) tree.toMdAst(node), sink);
+                }
+            }
+            default -> LOG.warn("Unhandled node type in guide search indexing: {}", tree.type(node));
+        }
+        sink.appendBreak();
+    }
+
+    /**
+     * Refers to the node whose text is currently appended, without allocating a view for each of them. The sinks of the
+     * search index only use the node during the call.
+     */
+    private static final class PackedNodeView implements UnistNode {
+        private final PackedMdAst tree;
+        private int node;
+
+        PackedNodeView(PackedMdAst tree) {
+            this.tree = tree;
+        }
+
+        PackedNodeView at(int node) {
+            this.node = node;
+            return this;
+        }
+
+        @Override
+        public String type() {
+            return tree.type(node);
+        }
+
+        @Override
+        public @Nullable Object data() {
+            return null;
+        }
+
+        @Override
+        public @Nullable UnistPosition position() {
+            return tree.position(node);
+        }
+    }
+
     /**
      * Get the current page id.
      */
@@ -413,7 +413,16 @@ public class SiteExporter implements ResourceExporter {
 
         var indexWriter = new SiteExportWriter(guide);
 
-        for (var page : guide.getPages()) {
+        for (var loadedPage : guide.getPages()) {
+            // Pages from resource packs are loaded without source positions, which the export uses to report problems
+            var page = loadedPage;
+            if (loadedPage.getAstRoot().position == null) {
+                page = PageCompiler.parse(
+                    loadedPage.getSourcePack(),
+                    loadedPage.getLanguage(),
+                    loadedPage.getId(),
+                    loadedPage.getSource());
+            }
             currentPage = page;
 
             LOG.debug("Compiling {}", page);
@@ -0,0 +1,111 @@
+package guideme.navigation;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An immutable map that only supports lookups by key, and whose updated versions share most of their entries with the
+ * previous version. Updates are recorded on top of a shared base map, which is only copied once they make up a sizable
+ * part of it. This keeps updating a few entries of a large map cheap.
+ */
+final class LayeredMap<K, V> {
+    private static final int MIN_CHANGES = 16;
+
+    private static final LayeredMap<?, ?> EMPTY = new LayeredMap<>(Map.of(), Map.of());
+
+    private final Map<K, V> base;
+
+    /**
+     * The entries changed since {@link #base} was copied. A null value means that the entry was removed.
+     */
+    private final Map<K, V> changes;
+
+    private LayeredMap(Map<K, V> base, Map<K, V> changes) {
+        this.base = base;
+        this.changes = changes;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <K, V> LayeredMap<K, V> empty() {
+        return (LayeredMap<K, V>) EMPTY;
+    }
+
+    static <K, V> LayeredMap<K, V> of(Map<K, V> map) {
+        return new LayeredMap<>(Map.copyOf(map), Map.of());
+    }
+
+    @Nullable
+    V get(K key) {
+        return get(base, changes, key);
+    }
+
+    Editor<K, V> edit() {
+        return new Editor<>(base, new HashMap<>(changes));
+    }
+
+    @Nullable
+    private static <K, V> V get(Map<K, V> base, Map<K, V> changes, K key) {
+        if (changes.containsKey(key)) {
+            return changes.get(key);
+        }
+        return base.get(key);
+    }
+
+    /**
+     * Collects updates for a new version of the map, without modifying the map it was created from.
+     */
+    static final class Editor<K, V> {
+        private final Map<K, V> base;
+        private final Map<K, V> changes;
+
+        private Editor(Map<K, V> base, Map<K, V> changes) {
+            this.base = base;
+            this.changes = changes;
+        }
+
+        @Nullable
+        V get(K key) {
+            return LayeredMap.get(base, changes, key);
+        }
+
+        V getOrDefault(K key, V defaultValue) {
+            var value = get(key);
+            return value != null ? value : defaultValue;
+        }
+
+        boolean containsKey(K key) {
+            return get(key) != null;
+        }
+
+        void put(K key, V value) {
+            changes.put(key, Objects.requireNonNull(value, "value"));
+        }
+
+        void remove(K key) {
+            if (base.containsKey(key)) {
+                changes.put(key, null);
+            } else {
+                changes.remove(key);
+            }
+        }
+
+        LayeredMap<K, V> build() {
+            if (changes.size() <= Math.max(MIN_CHANGES, (int) Math.sqrt(base.size()))) {
+                return new LayeredMap<>(base, changes);
+            }
+
+            var merged = new HashMap<>(base);
+            for (var entry : changes.entrySet()) {
+                if (entry.getValue() == null) {
+                    merged.remove(entry.getKey());
+                } else {
+                    merged.put(entry.getKey(), entry.getValue());
+                }
+            }
+            return new LayeredMap<>(merged, Map.of());
+        }
+    }
+}
@@ -5,18 +5,20 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.ItemStack;
 
-import org.apache.commons.lang3.tuple.Pair;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import guideme.GuidePageChange;
+import guideme.compiler.FrontmatterNavigation;
 import guideme.compiler.ParsedGuidePage;
 import guideme.internal.util.NavigationUtil;
 
@@ -24,18 +26,69 @@ public class NavigationTree {
 
     private static final Logger LOG = LoggerFactory.getLogger(NavigationTree.class);
 
-    private final Map<ResourceLocation, NavigationNode> nodeIndex;
+    private final LayeredMap<ResourceLocation, NavigationNode> nodeIndex;
 
     private final List<NavigationNode> rootNodes;
 
+    /**
+     * The navigation frontmatter of the pages in this tree.
+     */
+    private final LayeredMap<ResourceLocation, FrontmatterNavigation> entries;
+
+    /**
+     * The ids of the pages that declare a given page as their navigation parent, even if that page does not exist.
+     */
+    private final LayeredMap<ResourceLocation, List<ResourceLocation>> childIds;
+
+    /**
+     * Creates a tree from existing nodes. The navigation entries needed to update it are taken from the nodes.
+     */
     public NavigationTree(Map<ResourceLocation, NavigationNode> nodeIndex, List<NavigationNode> rootNodes) {
-        this.nodeIndex = nodeIndex;
+        this.nodeIndex = LayeredMap.of(nodeIndex);
         this.rootNodes = rootNodes;
+
+        var parentIds = new HashMap<ResourceLocation, ResourceLocation>();
+        var childIds = new HashMap<ResourceLocation, List<ResourceLocation>>();
+        for (var node : nodeIndex.values()) {
+            var children = new ArrayList<ResourceLocation>(node.children()
+                .size());
+            for (var child : node.children()) {
+                if (child.pageId() != null) {
+                    children.add(child.pageId());
+                    parentIds.put(child.pageId(), node.pageId());
+                }
+            }
+            if (node.pageId() != null && !children.isEmpty()) {
+                childIds.put(node.pageId(), children);
+            }
+        }
+
+        var entries = new HashMap<ResourceLocation, FrontmatterNavigation>();
+        for (var entry : nodeIndex.entrySet()) {
+            var node = entry.getValue();
+            entries.put(
+                entry.getKey(),
+                new FrontmatterNavigation(node.title(), parentIds.get(entry.getKey()), node.position(), null, null));
+        }
+
+        this.entries = LayeredMap.of(entries);
+        this.childIds = LayeredMap.of(childIds);
     }
 
     public NavigationTree() {
-        this.nodeIndex = Map.of();
+        this.nodeIndex = LayeredMap.empty();
         this.rootNodes = List.of();
+        this.entries = LayeredMap.empty();
+        this.childIds = LayeredMap.empty();
+    }
+
+    private NavigationTree(LayeredMap<ResourceLocation, NavigationNode> nodeIndex, List<NavigationNode> rootNodes,
+        LayeredMap<ResourceLocation, FrontmatterNavigation> entries,
+        LayeredMap<ResourceLocation, List<ResourceLocation>> childIds) {
+        this.nodeIndex = nodeIndex;
+        this.rootNodes = rootNodes;
+        this.entries = entries;
+        this.childIds = childIds;
     }
 
     public List<NavigationNode> getRootNodes() {
@@ -48,110 +101,218 @@ public class NavigationTree {
     }
 
     public static NavigationTree build(Collection<ParsedGuidePage> pages) {
-        var pagesWithChildren = new HashMap<ResourceLocation, Pair<ParsedGuidePage, List<ParsedGuidePage>>>();
-
-        // First pass, build a map of pages and their children
+        var changes = new ArrayList<GuidePageChange>(pages.size());
         for (var page : pages) {
-            var navigationEntry = page.getFrontmatter()
-                .navigationEntry();
-            if (navigationEntry == null) {
-                continue;
+            changes.add(new GuidePageChange(page.getLanguage(), page.getId(), null, page));
+        }
+        return new NavigationTree().applyChanges(changes);
+    }
+
+    /**
+     * Creates an updated tree in which the changed pages have been replaced. Only the nodes of the changed pages, of
+     * their previous and new parents, and of the ancestors of those are recreated. All other nodes, and most of the
+     * lookup tables, are shared with this tree.
+     *
+     * @param changes For each changed page, its new version (or null if it was removed). The old page of the change is
+     *                not used, since this tree already knows it.
+     */
+    public NavigationTree applyChanges(List<GuidePageChange> changes) {
+        var newEntries = entries.edit();
+        var newChildIds = childIds.edit();
+
+        // Pages whose node has to be recreated because their own page, or the list of their children changed
+        var dirty = new HashSet<ResourceLocation>();
+        // Pages whose node has to be recreated from scratch
+        var changedPages = new HashMap<ResourceLocation, ParsedGuidePage>();
+
+        for (var change : changes) {
+            var pageId = change.pageId();
+            dirty.add(pageId);
+            changedPages.remove(pageId);
+
+            var oldEntry = newEntries.get(pageId);
+            if (oldEntry != null) {
+                newEntries.remove(pageId);
+                if (oldEntry.parent() != null) {
+                    removeChildId(newChildIds, oldEntry.parent(), pageId);
+                    dirty.add(oldEntry.parent());
+                }
             }
 
-            // Create an entry for this page to collect any children it might have
-            pagesWithChildren.compute(
-                page.getId(),
-                (resourceLocation, previousPair) -> {
-                    return previousPair != null ? Pair.of(page, previousPair.getRight())
-                        : Pair.of(page, new ArrayList<>());
-                });
+            var newPage = change.newPage();
+            var newEntry = newPage != null ? newPage.getFrontmatter()
+                .navigationEntry() : null;
+            if (newEntry != null) {
+                newEntries.put(pageId, newEntry);
+                changedPages.put(pageId, newPage);
+                if (newEntry.parent() != null) {
+                    addChildId(newChildIds, newEntry.parent(), pageId);
+                    dirty.add(newEntry.parent());
+                }
+            }
+        }
 
-            // Add this page to the collected children of the parent page (if any)
-            var parentId = navigationEntry.parent();
-            if (parentId != null) {
-                pagesWithChildren.compute(parentId, (resourceLocation, prevPage) -> {
-                    if (prevPage != null) {
-                        prevPage.getRight()
-                            .add(page);
-                        return prevPage;
-                    } else {
-                        var children = new ArrayList<ParsedGuidePage>();
-                        children.add(page);
-                        return Pair.of(null, children);
-                    }
-                });
+        // Since nodes are immutable, the ancestors of every recreated node have to be recreated too
+        var rebuild = new HashSet<ResourceLocation>();
+        for (var pageId : dirty) {
+            var ancestorId = pageId;
+            while (ancestorId != null && rebuild.add(ancestorId)) {
+                var entry = newEntries.get(ancestorId);
+                ancestorId = entry != null ? entry.parent() : null;
             }
         }
 
-        var nodeIndex = new HashMap<ResourceLocation, NavigationNode>(pages.size());
-        var rootNodes = new ArrayList<NavigationNode>();
+        var newNodeIndex = nodeIndex.edit();
+        var builder = new NodeBuilder(newEntries, newChildIds, newNodeIndex, rebuild, changedPages);
 
-        for (var entry : pagesWithChildren.entrySet()) {
-            createNode(nodeIndex, rootNodes, pagesWithChildren, entry.getKey(), entry.getValue(), new HashSet<>());
+        var newRootNodes = new ArrayList<NavigationNode>(rootNodes.size());
+        for (var rootNode : rootNodes) {
+            if (!rebuild.contains(rootNode.pageId())) {
+                newRootNodes.add(rootNode);
+            }
         }
 
+        for (var pageId : rebuild) {
+            var entry = newEntries.get(pageId);
+            if (entry == null) {
+                newNodeIndex.remove(pageId);
+                continue;
+            }
+
+            var node = builder.getNode(pageId);
+            if (node != null && entry.parent() == null) {
+                newRootNodes.add(node);
+            }
+        }
+
+        builder.logUnknownParents();
+
         // Sort root nodes
-        rootNodes.sort(NODE_COMPARATOR);
+        newRootNodes.sort(NODE_COMPARATOR);
 
-        return new NavigationTree(Map.copyOf(nodeIndex), List.copyOf(rootNodes));
+        return new NavigationTree(
+            newNodeIndex.build(),
+            List.copyOf(newRootNodes),
+            newEntries.build(),
+            newChildIds.build());
     }
 
-    @Nullable
-    private static NavigationNode createNode(Map<ResourceLocation, NavigationNode> nodeIndex,
-        List<NavigationNode> rootNodes,
-        Map<ResourceLocation, Pair<ParsedGuidePage, List<ParsedGuidePage>>> pagesWithChildren, ResourceLocation pageId,
-        Pair<ParsedGuidePage, List<ParsedGuidePage>> entry, Set<ResourceLocation> parents) {
-        if (!parents.add(pageId)) {
-            LOG.error("Detected a cycle in the navigation tree parent-child relationship for page {}", pageId);
-            return null;
+    private static void addChildId(LayeredMap.Editor<ResourceLocation, List<ResourceLocation>> childIds,
+        ResourceLocation parentId, ResourceLocation childId) {
+        // The lists are shared with the previous tree, so they are copied on write
+        var children = new ArrayList<>(childIds.getOrDefault(parentId, List.of()));
+        children.add(childId);
+        childIds.put(parentId, children);
+    }
+
+    private static void removeChildId(LayeredMap.Editor<ResourceLocation, List<ResourceLocation>> childIds,
+        ResourceLocation parentId, ResourceLocation childId) {
+        var children = new ArrayList<>(childIds.getOrDefault(parentId, List.of()));
+        children.remove(childId);
+        if (children.isEmpty()) {
+            childIds.remove(parentId);
+        } else {
+            childIds.put(parentId, children);
         }
+    }
 
-        var page = entry.getKey();
-        var children = entry.getRight();
+    /**
+     * Creates the nodes that need to be rebuilt and reuses existing nodes for everything else.
+     */
+    private static class NodeBuilder {
+        private final LayeredMap.Editor<ResourceLocation, FrontmatterNavigation> entries;
+        private final LayeredMap.Editor<ResourceLocation, List<ResourceLocation>> childIds;
+        private final LayeredMap.Editor<ResourceLocation, NavigationNode> nodeIndex;
+        private final Set<ResourceLocation> rebuild;
+        private final Map<ResourceLocation, ParsedGuidePage> changedPages;
+        private final Set<ResourceLocation> builtNodes = new HashSet<>();
+        private final Set<ResourceLocation> parents = new HashSet<>();
+        /**
+         * The pages of the recreated nodes, grouped by the unknown navigation parent they declare.
+         */
+        private final Map<ResourceLocation, List<ResourceLocation>> unknownParents = new LinkedHashMap<>();
 
-        if (page == null) {
-            // These children had a parent that doesn't exist
-            LOG.error("Pages {} had unknown navigation parent {}", children, pageId);
-            return null;
+        NodeBuilder(LayeredMap.Editor<ResourceLocation, FrontmatterNavigation> entries,
+            LayeredMap.Editor<ResourceLocation, List<ResourceLocation>> childIds,
+            LayeredMap.Editor<ResourceLocation, NavigationNode> nodeIndex, Set<ResourceLocation> rebuild,
+            Map<ResourceLocation, ParsedGuidePage> changedPages) {
+            this.entries = entries;
+            this.childIds = childIds;
+            this.nodeIndex = nodeIndex;
+            this.rebuild = rebuild;
+            this.changedPages = changedPages;
         }
 
-        var navigationEntry = Objects.requireNonNull(
-            page.getFrontmatter()
-                .navigationEntry(),
-            "navigation frontmatter");
+        @Nullable
+        NavigationNode getNode(ResourceLocation pageId) {
+            if (!rebuild.contains(pageId) || builtNodes.contains(pageId)) {
+                return nodeIndex.get(pageId);
+            }
 
-        // Construct the icon if set
-        var icon = NavigationUtil.createNavigationIcon(page);
+            if (!parents.add(pageId)) {
+                LOG.error("Detected a cycle in the navigation tree parent-child relationship for page {}", pageId);
+                return null;
+            }
 
-        var childNodes = new ArrayList<NavigationNode>(children.size());
-        for (var childPage : children) {
-            var childPageEntry = pagesWithChildren.get(childPage.getId());
+            try {
+                return createNode(pageId);
+            } finally {
+                parents.remove(pageId);
+            }
+        }
 
-            var childNode = createNode(
-                nodeIndex,
-                rootNodes,
-                pagesWithChildren,
-                childPage.getId(),
-                childPageEntry,
-                parents);
-            if (childNode != null) {
-                childNodes.add(childNode);
+        void logUnknownParents() {
+            for (var entry : unknownParents.entrySet()) {
+                LOG.error("Pages {} had unknown navigation parent {}", entry.getValue(), entry.getKey());
             }
         }
-        childNodes.sort(NODE_COMPARATOR);
-
-        var node = new NavigationNode(
-            page.getId(),
-            navigationEntry.title(),
-            icon,
-            childNodes,
-            navigationEntry.position(),
-            true);
-        nodeIndex.put(page.getId(), node);
-        if (navigationEntry.parent() == null) {
-            rootNodes.add(node);
+
+        @Nullable
+        private NavigationNode createNode(ResourceLocation pageId) {
+            var navigationEntry = entries.get(pageId);
+            if (navigationEntry == null) {
+                return null;
+            }
+
+            var parentId = navigationEntry.parent();
+            if (parentId != null && !entries.containsKey(parentId)) {
+                unknownParents.computeIfAbsent(parentId, id -> new ArrayList<>())
+                    .add(pageId);
+            }
+
+            // Construct the icon if set, but reuse it if only the children of the page changed
+            var previousNode = nodeIndex.get(pageId);
+            var changedPage = changedPages.get(pageId);
+            ItemStack icon;
+            if (changedPage != null) {
+                icon = NavigationUtil.createNavigationIcon(changedPage);
+            } else if (previousNode != null) {
+                icon = previousNode.icon();
+            } else {
+                icon = ItemStack.EMPTY;
+            }
+
+            var children = childIds.getOrDefault(pageId, List.of());
+            var childNodes = new ArrayList<NavigationNode>(children.size());
+            for (var childId : children) {
+                var childNode = getNode(childId);
+                if (childNode != null) {
+                    childNodes.add(childNode);
+                }
+            }
+            childNodes.sort(NODE_COMPARATOR);
+
+            var node = new NavigationNode(
+                pageId,
+                navigationEntry.title(),
+                icon,
+                childNodes,
+                navigationEntry.position(),
+                changedPage != null || previousNode == null || previousNode.hasPage());
+            nodeIndex.put(pageId, node);
+            builtNodes.add(pageId);
+            return node;
         }
-        return node;
     }
 
     private static final Comparator<NavigationNode> NODE_COMPARATOR = Comparator.comparingInt(NavigationNode::position)
@@ -3,12 +3,13 @@ package guideme.scene;
 import java.util.Set;
 
 import guideme.compiler.PageCompiler;
+import guideme.compiler.ThreadSafeTagCompiler;
 import guideme.compiler.tags.BlockTagCompiler;
 import guideme.compiler.tags.MdxAttrs;
 import guideme.document.block.LytBlockContainer;
 import guideme.libs.mdast.mdx.model.MdxJsxElementFields;
 
-public class ItemImageTagCompiler extends BlockTagCompiler {
+public class ItemImageTagCompiler extends BlockTagCompiler implements ThreadSafeTagCompiler {
 
     public static final String TAG_NAME = "ItemImage";
 
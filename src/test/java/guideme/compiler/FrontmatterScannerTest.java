@@ -0,0 +1,81 @@
+package guideme.compiler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import net.minecraft.resources.ResourceLocation;
+
+import org.junit.jupiter.api.Test;
+
+class FrontmatterScannerTest {
+
+    @Test
+    void testFindsYaml() {
+        assertEquals("a: 1\nb:\n  c: 2", FrontmatterScanner.findYaml("---\na: 1\nb:\n  c: 2\n---\nbody"));
+    }
+
+    @Test
+    void testKeepsBlankLines() {
+        assertEquals("\nx: 1\n", FrontmatterScanner.findYaml("---\n\nx: 1\n\n---\n"));
+    }
+
+    @Test
+    void testEmptyFrontmatter() {
+        assertEquals("", FrontmatterScanner.findYaml("--- \n---\n"));
+    }
+
+    @Test
+    void testClosingFenceAtEndOfInput() {
+        assertEquals("x: 1", FrontmatterScanner.findYaml("---\nx: 1\n---  "));
+    }
+
+    @Test
+    void testFenceWithTrailingText() {
+        assertEquals("x: 1\n---x", FrontmatterScanner.findYaml("---\nx: 1\n---x\n---\n"));
+    }
+
+    @Test
+    void testRequiresClosingFence() {
+        assertNull(FrontmatterScanner.findYaml("---\nx: 1\n"));
+    }
+
+    @Test
+    void testRequiresFenceAtStart() {
+        assertNull(FrontmatterScanner.findYaml("\n---\nx: 1\n---\n"));
+        assertNull(FrontmatterScanner.findYaml("----\nx\n---\n"));
+        assertNull(FrontmatterScanner.findYaml("---"));
+    }
+
+    @Test
+    void testSkipsByteOrderMark() {
+        assertEquals("x: 1", FrontmatterScanner.findYaml("\uFEFF---\nx: 1\n---\n"));
+    }
+
+    @Test
+    void testScanNavigation() {
+        var frontmatter = FrontmatterScanner.scan(
+            ResourceLocation.parse("ae2:index.md"),
+            "---\nnavigation:\n  title: Test\n  parent: other.md\n---\n# Body");
+        var navigation = frontmatter.navigationEntry();
+        assertEquals("Test", navigation.title());
+        assertEquals(ResourceLocation.parse("ae2:other.md"), navigation.parent());
+    }
+
+    @Test
+    void testScanKeepsNullValuesAndKeyOrder() {
+        var frontmatter = FrontmatterScanner.scan(ResourceLocation.parse("ae2:index.md"), "---\nb: 1\na:\nc: ~\n---\n");
+        var properties = frontmatter.additionalProperties();
+        assertEquals(List.of("b", "a", "c"), List.copyOf(properties.keySet()));
+        assertNull(properties.get("a"));
+        assertTrue(properties.containsKey("c"));
+    }
+
+    @Test
+    void testScanInvalidYaml() {
+        var frontmatter = FrontmatterScanner.scan(ResourceLocation.parse("ae2:index.md"), "---\n: [\n---\n");
+        assertNull(frontmatter.navigationEntry());
+    }
+}
@@ -0,0 +1,112 @@
+package guideme.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.resources.ResourceLocation;
+
+import org.junit.jupiter.api.Test;
+
+import guideme.GuidePageChange;
+import guideme.compiler.PageCompiler;
+import guideme.compiler.ParsedGuidePage;
+
+class GuidePageChangesTest {
+
+    private static final ResourceLocation PAGE = ResourceLocation.fromNamespaceAndPath("ae2", "page.md");
+    private static final ResourceLocation OTHER_PAGE = ResourceLocation.fromNamespaceAndPath("ae2", "other.md");
+
+    private final Map<ResourceLocation, ParsedGuidePage> developmentPages = new HashMap<>();
+
+    @Test
+    void testMixedLanguageBatchResultsInOneChange() {
+        var oldPage = page(PAGE, "en_us");
+        developmentPages.put(PAGE, oldPage);
+        var english = page(PAGE, "en_us");
+        var german = page(PAGE, "de_de");
+
+        var changes = resolve(
+            new GuidePageChange("en_us", PAGE, null, english),
+            new GuidePageChange("de_de", PAGE, null, german));
+
+        assertEquals(1, changes.size());
+        assertSame(oldPage, changes.get(0)
+            .oldPage());
+        assertSame(german, changes.get(0)
+            .newPage());
+    }
+
+    @Test
+    void testMixedLanguageBatchInReverseOrder() {
+        var english = page(PAGE, "en_us");
+        var german = page(PAGE, "de_de");
+
+        var changes = resolve(
+            new GuidePageChange("de_de", PAGE, null, german),
+            new GuidePageChange(null, PAGE, null, english));
+
+        assertEquals(1, changes.size());
+        assertSame(german, changes.get(0)
+            .newPage());
+    }
+
+    @Test
+    void testDefaultLanguageChangeIsHiddenByTranslation() {
+        developmentPages.put(PAGE, page(PAGE, "de_de"));
+
+        var changes = resolve(new GuidePageChange("en_us", PAGE, null, page(PAGE, "en_us")));
+
+        assertEquals(List.of(), changes);
+    }
+
+    @Test
+    void testRemovingTranslationRevealsDefaultLanguageChange() {
+        var german = page(PAGE, "de_de");
+        developmentPages.put(PAGE, german);
+        var english = page(PAGE, "en_us");
+
+        var changes = resolve(
+            new GuidePageChange("en_us", PAGE, null, english),
+            new GuidePageChange("de_de", PAGE, german, null));
+
+        assertEquals(1, changes.size());
+        assertSame(german, changes.get(0)
+            .oldPage());
+        assertSame(english, changes.get(0)
+            .newPage());
+    }
+
+    @Test
+    void testKeepsLastChangeInOrderOfLastChange() {
+        var first = page(PAGE, "en_us");
+        var second = page(PAGE, "en_us");
+        var other = page(OTHER_PAGE, "en_us");
+
+        var changes = resolve(
+            new GuidePageChange("en_us", PAGE, null, first),
+            new GuidePageChange("en_us", OTHER_PAGE, null, other),
+            new GuidePageChange("en_us", PAGE, null, second),
+            new GuidePageChange("fr_fr", OTHER_PAGE, null, page(OTHER_PAGE, "fr_fr")));
+
+        assertEquals(2, changes.size());
+        assertSame(other, changes.get(0)
+            .newPage());
+        assertSame(second, changes.get(1)
+            .newPage());
+        assertNull(changes.get(1)
+            .oldPage());
+    }
+
+    private List<GuidePageChange> resolve(GuidePageChange... changes) {
+        return GuidePageChanges.resolve(List.of(changes), "en_us", "de_de", developmentPages);
+    }
+
+    private static ParsedGuidePage page(ResourceLocation id, String language) {
+        return PageCompiler.parse("ae2", language, id, "# " + id.getPath());
+    }
+}
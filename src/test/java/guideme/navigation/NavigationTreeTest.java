@@ -0,0 +1,158 @@
+package guideme.navigation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.resources.ResourceLocation;
+
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import guideme.GuidePageChange;
+import guideme.compiler.PageCompiler;
+import guideme.compiler.ParsedGuidePage;
+
+class NavigationTreeTest {
+
+    private final Map<ResourceLocation, ParsedGuidePage> pages = new LinkedHashMap<>();
+
+    private NavigationTree tree = new NavigationTree();
+
+    @Test
+    void testAddPages() {
+        change("root", null, 0);
+        change("b", "root", 2);
+        change("a", "root", 1);
+        change("child", "a", 0);
+
+        assertTree("[root[a[child], b]]");
+    }
+
+    @Test
+    void testMovePage() {
+        change("root", null, 0);
+        change("a", "root", 0);
+        change("b", "root", 1);
+        change("child", "a", 0);
+
+        change("child", "b", 0);
+
+        assertTree("[root[a, b[child]]]");
+    }
+
+    @Test
+    void testRemovePageOrphansChildren() {
+        change("root", null, 0);
+        change("a", "root", 0);
+        change("child", "a", 0);
+
+        remove("a");
+
+        assertTree("[root]");
+        assertEquals("child", describe(tree.getNodeById(id("child"))));
+
+        // Adding the parent again adopts the orphan
+        change("a", "root", 0);
+        assertTree("[root[a[child]]]");
+    }
+
+    @Test
+    void testCycle() {
+        change("root", null, 0);
+        change("a", "root", 0);
+        change("b", "a", 0);
+
+        change("a", "b", 0);
+
+        assertTree("[root]");
+
+        change("a", "root", 0);
+        assertTree("[root[a[b]]]");
+    }
+
+    @Test
+    void testUnrelatedNodesAreShared() {
+        change("root", null, 0);
+        change("a", "root", 0);
+        change("other", null, 1);
+        change("child", "other", 0);
+
+        var previousOther = tree.getNodeById(id("other"));
+        change("a", "root", 5);
+
+        assertSame(previousOther, tree.getNodeById(id("other")));
+        assertTree("[root[a], other[child]]");
+    }
+
+    @Test
+    void testUpdateTreeBuiltFromNodes() {
+        change("root", null, 0);
+        change("a", "root", 0);
+        change("b", "root", 1);
+        change("child", "a", 0);
+
+        var nodeIndex = new HashMap<ResourceLocation, NavigationNode>();
+        for (var id : pages.keySet()) {
+            nodeIndex.put(id, tree.getNodeById(id));
+        }
+        tree = new NavigationTree(nodeIndex, tree.getRootNodes());
+
+        change("child", "b", 0);
+        assertTree("[root[a, b[child]]]");
+
+        remove("a");
+        assertTree("[root[b[child]]]");
+    }
+
+    private void change(String path, @Nullable String parent, int position) {
+        var source = "---\nnavigation:\n  title: " + path + "\n  position: " + position + "\n"
+            + (parent != null ? "  parent: " + parent + "\n" : "")
+            + "---\n";
+        var id = id(path);
+        var page = PageCompiler.parse("ae2", "en_us", id, source);
+        pages.put(id, page);
+        tree = tree.applyChanges(List.of(new GuidePageChange("en_us", id, null, page)));
+    }
+
+    private void remove(String path) {
+        var id = id(path);
+        pages.remove(id);
+        tree = tree.applyChanges(List.of(new GuidePageChange("en_us", id, null, null)));
+    }
+
+    /**
+     * Checks the incrementally updated tree and compares it against a tree built from scratch.
+     */
+    private void assertTree(String expected) {
+        assertEquals(expected, describe(tree.getRootNodes()));
+        assertEquals(expected, describe(NavigationTree.build(pages.values()).getRootNodes()));
+    }
+
+    private static ResourceLocation id(String path) {
+        return ResourceLocation.fromNamespaceAndPath("ae2", path);
+    }
+
+    private static String describe(List<NavigationNode> nodes) {
+        var result = new ArrayList<String>();
+        for (var node : nodes) {
+            result.add(describe(node));
+        }
+        return result.toString();
+    }
+
+    private static String describe(@Nullable NavigationNode node) {
+        assertNotNull(node);
+        if (node.children()
+            .isEmpty()) {
+            return node.title();
+        }
+        return node.title() + describe(node.children());
+    }
+}